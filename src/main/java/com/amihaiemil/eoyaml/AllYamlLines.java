@@ -81,12 +81,68 @@ final class AllYamlLines implements YamlLines {
      */
     private Collection<YamlLine> lines;
 
+    /**
+     * Spans of the multi-line flow collections, shared by all the nodes
+     * of this document.
+     */
+    private final FlowSpans spans;
+
+    /**
+     * Comments of the lines, shared by all the nodes of this document.
+     */
+    private final LineComments comments;
+
+    /**
+     * Do the nodes read from these lines have comments?
+     */
+    private final boolean commented;
+
     /**
      * Ctor.
      * @param lines Yaml lines collection.
      */
     AllYamlLines(final Collection<YamlLine> lines) {
+        this(lines, true);
+    }
+
+    /**
+     * Ctor.
+     * @param lines Yaml lines collection.
+     * @param commented Do the nodes read from these lines have comments?
+     *  If false, their comment is always {@link NoComment}.
+     */
+    AllYamlLines(final Collection<YamlLine> lines, final boolean commented) {
         this.lines = lines;
+        this.commented = commented;
+        this.spans = new FlowSpans(lines);
+        this.comments = new LineComments(lines);
+    }
+
+    /**
+     * Spans of the multi-line flow collections in these lines. They are
+     * computed only once, the first time they are needed.
+     * @return FlowSpans.
+     */
+    FlowSpans flowSpans() {
+        return this.spans;
+    }
+
+    /**
+     * Comments of these lines. They are indexed only once, the first time
+     * they are needed.
+     * @return LineComments.
+     */
+    LineComments comments() {
+        return this.comments;
+    }
+
+    /**
+     * Do the nodes read from these lines have comments? If not, they
+     * should not look for them at all.
+     * @return True or false.
+     */
+    boolean commented() {
+        return this.commented;
     }
 
     @Override
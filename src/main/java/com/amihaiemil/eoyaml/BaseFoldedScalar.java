@@ -27,7 +27,7 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.List;
+import java.util.Iterator;
 
 /**
  * Base folded block scalar which can give us the scalar's lines.
@@ -42,9 +42,10 @@ abstract class BaseFoldedScalar extends BaseScalar {
 
     /**
      * Return the unfolded value of this scalar. This method
-     * should not be visible to the public.
-     * @return List of String lines.
+     * should not be visible to the public. The lines should be
+     * produced one by one, as they are iterated.
+     * @return Iterator of String lines.
      */
-    abstract List<String> unfolded();
+    abstract Iterator<String> unfolded();
 
 }
@@ -40,6 +40,11 @@ package com.amihaiemil.eoyaml;
  */
 abstract class BaseScalar extends BaseYamlNode implements Scalar {
 
+    /**
+     * Typed value of this scalar, resolved at the first typed access.
+     */
+    private volatile TypedValue typed;
+
     @Override
     public final Node type() {
         return Node.SCALAR;
@@ -57,6 +62,8 @@ abstract class BaseScalar extends BaseYamlNode implements Scalar {
             result = false;
         } else if (this == other) {
             result = true;
+        } else if (this.differs(other)) {
+            result = false;
         } else {
             result = this.compareTo((Scalar) other) == 0;
         }
@@ -64,11 +71,17 @@ abstract class BaseScalar extends BaseYamlNode implements Scalar {
     }
 
     /**
-     * Hash Code of this scalar.
+     * Hash Code of this scalar. It is computed only once, if the scalar
+     * is stable.
      * @return Value of hashCode() of type int.
      */
     @Override
     public int hashCode() {
+        return this.structuralHash();
+    }
+
+    @Override
+    final int hash() {
         final int hashCode;
         final String value = this.value();
         if(value == null) {
@@ -118,4 +131,17 @@ abstract class BaseScalar extends BaseYamlNode implements Scalar {
     public final boolean isEmpty() {
         return this.value() == null || this.value().isEmpty();
     }
+
+    /**
+     * Typed value of this scalar, resolved once and cached.
+     * @return TypedValue.
+     */
+    final TypedValue typed() {
+        TypedValue resolved = this.typed;
+        if(resolved == null) {
+            resolved = new TypedValue(this.value());
+            this.typed = resolved;
+        }
+        return resolved;
+    }
 }
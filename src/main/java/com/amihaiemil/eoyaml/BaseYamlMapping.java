@@ -67,12 +67,14 @@ public abstract class BaseYamlMapping
 
     @Override
     public final int hashCode() {
+        return this.structuralHash();
+    }
+
+    @Override
+    final int hash() {
         int hash = 0;
-        for(final YamlNode key : this.keys()) {
-            hash += key.hashCode();
-        }
-        for(final YamlNode value : this.values()) {
-            hash += value.hashCode();
+        for(final Map.Entry<YamlNode, YamlNode> entry : this.entries()) {
+            hash += entry.getKey().hashCode() + entry.getValue().hashCode();
         }
         return hash;
     }
@@ -90,6 +92,8 @@ public abstract class BaseYamlMapping
             result = false;
         } else if (this == other) {
             result = true;
+        } else if (this.differs(other)) {
+            result = false;
         } else {
             result = this.compareTo((YamlMapping) other) == 0;
         }
@@ -121,25 +125,28 @@ public abstract class BaseYamlMapping
         if (other == null || !(other instanceof YamlMapping)) {
             result = 1;
         } else if (this != other) {
-            final BaseYamlMapping map = (BaseYamlMapping) other;
-            final Set<YamlNode> keys = this.keys();
-            final Set<YamlNode> otherKeys = map.keys();
-            if(keys.size() > otherKeys.size()) {
+            final Set<Map.Entry<YamlNode, YamlNode>> entries = this.entries();
+            final Set<Map.Entry<YamlNode, YamlNode>> others =
+                ((YamlMapping) other).entries();
+            if(entries.size() > others.size()) {
                 result = 1;
-            } else if (keys.size() < otherKeys.size()) {
+            } else if (entries.size() < others.size()) {
                 result = -1;
             } else {
-                final Iterator<YamlNode> keysIt = keys.iterator();
-                final Iterator<YamlNode> otherKeysIt = otherKeys.iterator();
-                final Iterator<YamlNode> values = this.values().iterator();
-                final Iterator<YamlNode> otherVals = map.values().iterator();
+                final Iterator<Map.Entry<YamlNode, YamlNode>> here =
+                    entries.iterator();
+                final Iterator<Map.Entry<YamlNode, YamlNode>> there =
+                    others.iterator();
                 int keysComparison;
                 int valuesComparison;
-                while(values.hasNext()) {
-                    keysComparison = keysIt.next()
-                        .compareTo(otherKeysIt.next());
-                    valuesComparison = values.next()
-                        .compareTo(otherVals.next());
+                while(here.hasNext()) {
+                    final Map.Entry<YamlNode, YamlNode> entry = here.next();
+                    final Map.Entry<YamlNode, YamlNode> otherEntry =
+                        there.next();
+                    keysComparison = entry.getKey()
+                        .compareTo(otherEntry.getKey());
+                    valuesComparison = entry.getValue()
+                        .compareTo(otherEntry.getValue());
                     if(keysComparison != 0) {
                         result = keysComparison;
                         break;
@@ -53,6 +53,21 @@ abstract class BaseYamlNode implements YamlNode {
      */
     private final boolean alwaysPrintBlock;
 
+    /**
+     * Cached toString(), if this node is immutable.
+     */
+    private volatile String printed;
+
+    /**
+     * Structural hash of this node, cached if the node is stable.
+     */
+    private volatile int hash;
+
+    /**
+     * Was the structural hash computed and cached?
+     */
+    private volatile boolean hashed;
+
     /**
      * Ctor.
      */
@@ -104,6 +119,77 @@ abstract class BaseYamlNode implements YamlNode {
         return clazz.cast(this);
     }
 
+    /**
+     * Is this node immutable? The printed form of an immutable node never
+     * changes, so its toString() is computed only once and then cached.
+     * A collection is immutable only if all its children are immutable.
+     * @return True or false.
+     */
+    boolean immutable() {
+        return false;
+    }
+
+    /**
+     * Is the content of this node stable? A stable node never changes,
+     * so its structural hash is computed only once. Immutable nodes are
+     * stable, as are the nodes read from text or JSON.
+     * @return True or false.
+     */
+    boolean stable() {
+        return this.immutable();
+    }
+
+    /**
+     * Compute the structural hash of this node, from its subtree. It must
+     * be consistent with equals(...).
+     * @return Hash.
+     */
+    int hash() {
+        return System.identityHashCode(this);
+    }
+
+    /**
+     * Structural hash of this node, computed only once if the node is
+     * stable. It is the value of hashCode().
+     * @return Hash.
+     */
+    final int structuralHash() {
+        final int result;
+        if(this.hashed) {
+            result = this.hash;
+        } else {
+            result = this.hash();
+            if(this.stable()) {
+                this.hash = result;
+                this.hashed = true;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Is the other node surely different from this one? It is, if both
+     * nodes are stable and their structural hashes differ. Used by
+     * equals(...) to avoid comparing the subtrees.
+     * @param other Other Object.
+     * @return True if the nodes are different, false if they may be equal.
+     */
+    final boolean differs(final Object other) {
+        return other instanceof BaseYamlNode && this.stable()
+            && ((BaseYamlNode) other).stable()
+            && this.structuralHash() != ((BaseYamlNode) other).structuralHash();
+    }
+
+    /**
+     * Is the given node immutable? Null nodes are.
+     * @param node YamlNode, possibly null.
+     * @return True or false.
+     */
+    static boolean isImmutable(final YamlNode node) {
+        return node == null || node instanceof BaseYamlNode
+            && ((BaseYamlNode) node).immutable();
+    }
+
     /**
      * Print this YamlNode using a StringWriter to create its
      * String representation.
@@ -114,17 +200,24 @@ abstract class BaseYamlNode implements YamlNode {
      */
     @Override
     public final String toString() {
-        final StringWriter writer = new StringWriter();
-        final YamlPrinter printer = new RtYamlPrinter(
-            writer, this.alwaysPrintBlock
-        );
-        try {
-            printer.print(this);
-            return writer.toString();
-        } catch (final IOException ex) {
-            throw new YamlPrintException(
-                "IOException when printing YAML", ex
+        String result = this.printed;
+        if(result == null) {
+            final StringWriter writer = new StringWriter();
+            final YamlPrinter printer = new RtYamlPrinter(
+                writer, this.alwaysPrintBlock
             );
+            try {
+                printer.print(this);
+            } catch (final IOException ex) {
+                throw new YamlPrintException(
+                    "IOException when printing YAML", ex
+                );
+            }
+            result = writer.toString();
+            if(this.immutable()) {
+                this.printed = result;
+            }
         }
+        return result;
     }
 }
@@ -43,6 +43,11 @@ import java.util.*;
 public abstract class BaseYamlSequence
     extends BaseYamlNode implements YamlSequence {
 
+    /**
+     * Elements of this sequence, read at the first indexed access.
+     */
+    private volatile List<YamlNode> list;
+
     /**
      * Ctor.
      */
@@ -59,6 +64,62 @@ public abstract class BaseYamlSequence
         super(alwaysPrintBlock);
     }
 
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * If the elements of this sequence never change, they are read from
+     * values() only once, at the first call, and then cached.
+     * @checkstyle DesignForExtension (50 lines)
+     */
+    @Override
+    public List<YamlNode> asList() {
+        List<YamlNode> elements = this.list;
+        if(elements == null) {
+            final Collection<YamlNode> values = this.values();
+            if(values instanceof RandomAccess && values instanceof List) {
+                elements = Collections.unmodifiableList(
+                    (List<YamlNode>) values
+                );
+            } else {
+                elements = Collections.unmodifiableList(
+                    new ArrayList<>(values)
+                );
+            }
+            if(this.fixedElements()) {
+                this.list = elements;
+            }
+        }
+        return elements;
+    }
+
+    @Override
+    public YamlNode yamlNode(final int index) {
+        final List<YamlNode> elements = this.asList();
+        final YamlNode node;
+        if(index >= 0 && index < elements.size()) {
+            node = elements.get(index);
+        } else {
+            node = null;
+        }
+        return node;
+    }
+
+    @Override
+    public int size() {
+        return this.asList().size();
+    }
+
+    /**
+     * Are the elements of this sequence always the same? Only then they
+     * are cached by asList(). It is false by default, since a sequence
+     * may be a view over a live collection (e.g. a reflected one).
+     * @return True or false.
+     * @checkstyle DesignForExtension (5 lines)
+     */
+    boolean fixedElements() {
+        return false;
+    }
+
     @Override
     public final Node type() {
         return Node.SEQUENCE;
@@ -66,8 +127,13 @@ public abstract class BaseYamlSequence
 
     @Override
     public final int hashCode() {
+        return this.structuralHash();
+    }
+
+    @Override
+    final int hash() {
         int hash = 0;
-        for(final YamlNode node : this.values()) {
+        for(final YamlNode node : this.asList()) {
             hash += node.hashCode();
         }
         return hash;
@@ -86,6 +152,8 @@ public abstract class BaseYamlSequence
             result = false;
         } else if (this == other) {
             result = true;
+        } else if (this.differs(other)) {
+            result = false;
         } else {
             result = this.compareTo((YamlSequence) other) == 0;
         }
@@ -120,8 +188,8 @@ public abstract class BaseYamlSequence
         } else if (other instanceof YamlMapping) {
             result = -1;
         } else if (this != other) {
-            final Collection<YamlNode> nodes = this.values();
-            final Collection<YamlNode> others = ((YamlSequence) other).values();
+            final Collection<YamlNode> nodes = this.asList();
+            final Collection<YamlNode> others = ((YamlSequence) other).asList();
             if(nodes.size() > others.size()) {
                 result = 1;
             } else if (nodes.size() < others.size()) {
@@ -142,6 +210,6 @@ public abstract class BaseYamlSequence
 
     @Override
     public final boolean isEmpty() {
-        return this.values().isEmpty();
+        return this.asList().isEmpty();
     }
 }
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.lang.reflect.Array;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A YamlDump which converts plain Java values straight into built (and
+ * immutable) YAML nodes, without reflection: Strings, numbers, booleans,
+ * chars, enums and dates become plain scalars, Maps become mappings,
+ * Iterables and arrays become sequences and YamlNodes are taken as they
+ * are. Only other Objects (beans) are dumped with the
+ * {@link ReflectedYamlDump}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class BuiltYamlDump implements YamlDump {
+
+    /**
+     * If the value is an instance of any of these types, it is a Scalar.
+     */
+    private static final List<Class<?>> SCALAR_TYPES = Arrays.asList(
+        CharSequence.class, Number.class, Boolean.class, Character.class,
+        Enum.class, Temporal.class
+    );
+
+    /**
+     * Object to dump.
+     */
+    private final Object object;
+
+    /**
+     * Constructor.
+     * @param object Object to dump.
+     */
+    BuiltYamlDump(final Object object) {
+        this.object = object;
+    }
+
+    @Override
+    public YamlNode dump(final String comment) {
+        final YamlNode node;
+        if(this.object instanceof YamlNode) {
+            node = (YamlNode) this.object;
+        } else if(this.object instanceof char[]) {
+            node = new PlainStringScalar(
+                String.valueOf((char[]) this.object), comment, ""
+            );
+        } else if(this.isScalar()) {
+            node = new PlainStringScalar(
+                String.valueOf(this.object), comment, ""
+            );
+        } else if(this.object instanceof Map) {
+            node = this.mapping((Map<?, ?>) this.object, comment);
+        } else if(this.object instanceof Iterable
+            || this.object.getClass().isArray()) {
+            node = new RtYamlSequence(this.elements(), comment);
+        } else {
+            node = new ReflectedYamlDump(this.object).dump(comment);
+        }
+        return node;
+    }
+
+    /**
+     * Is the Object printed as a plain scalar?
+     * @return True or false.
+     */
+    private boolean isScalar() {
+        boolean scalar = this.object == null;
+        for(final Class<?> type : BuiltYamlDump.SCALAR_TYPES) {
+            if(scalar) {
+                break;
+            }
+            scalar = type.isInstance(this.object);
+        }
+        return scalar;
+    }
+
+    /**
+     * Convert a Map into a YamlMapping.
+     * @param map Map.
+     * @param comment Comment of the mapping.
+     * @return YamlMapping.
+     */
+    private YamlMapping mapping(final Map<?, ?> map, final String comment) {
+        final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>(
+            map.size() * 4 / 3 + 1
+        );
+        for(final Map.Entry<?, ?> entry : map.entrySet()) {
+            entries.put(
+                new BuiltYamlDump(entry.getKey()).dump(),
+                new BuiltYamlDump(entry.getValue()).dump()
+            );
+        }
+        return new RtYamlMapping(entries, comment);
+    }
+
+    /**
+     * Convert the elements of an Iterable or array into YamlNodes.
+     * @return List of YamlNode.
+     */
+    private List<YamlNode> elements() {
+        final List<YamlNode> elements;
+        if(this.object instanceof Iterable) {
+            if(this.object instanceof Collection) {
+                elements = new ArrayList<>(
+                    ((Collection<?>) this.object).size()
+                );
+            } else {
+                elements = new ArrayList<>();
+            }
+            for(final Object element : (Iterable<?>) this.object) {
+                elements.add(new BuiltYamlDump(element).dump());
+            }
+        } else {
+            final int length = Array.getLength(this.object);
+            elements = new ArrayList<>(length);
+            for(int idx = 0; idx < length; ++idx) {
+                elements.add(
+                    new BuiltYamlDump(Array.get(this.object, idx)).dump()
+                );
+            }
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Persistent, immutable chain of elements, used by the immutable builders.
+ * Adding an element creates a new link pointing to the previous chain,
+ * which is shared, not copied: with(...) is O(1) and any chain may be
+ * extended more than once, in different directions.<br><br>
+ * The elements are read back, in the order they were added, only when
+ * the node is built.
+ * @param <T> Type of the elements.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class Chain<T> implements Iterable<T> {
+
+    /**
+     * Previous link, null if this chain is empty.
+     */
+    private final Chain<T> previous;
+
+    /**
+     * Last element added.
+     */
+    private final T last;
+
+    /**
+     * Number of elements.
+     */
+    private final int size;
+
+    /**
+     * Ctor. An empty chain.
+     */
+    Chain() {
+        this(null, null, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param previous Previous link.
+     * @param last Last element added.
+     * @param size Number of elements.
+     */
+    private Chain(final Chain<T> previous, final T last, final int size) {
+        this.previous = previous;
+        this.last = last;
+        this.size = size;
+    }
+
+    /**
+     * A new chain, with the given element added at the end.
+     * @param element Element to add.
+     * @return Chain.
+     */
+    Chain<T> with(final T element) {
+        return new Chain<>(this, element, this.size + 1);
+    }
+
+    /**
+     * Number of elements.
+     * @return Integer.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * The elements, in the order they were added.
+     * @return Fixed-size List.
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toList() {
+        final Object[] elements = new Object[this.size];
+        Chain<T> link = this;
+        for(int idx = this.size - 1; idx >= 0; --idx) {
+            elements[idx] = link.last;
+            link = link.previous;
+        }
+        return (List<T>) Arrays.asList(elements);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this.toList().iterator();
+    }
+}
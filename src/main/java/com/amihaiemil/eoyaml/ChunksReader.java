@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.Reader;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Reader over chunks of text (usually the lines of a block scalar) which
+ * are only produced when needed. This way, the content of a big block
+ * scalar can be streamed without assembling it in one String first.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class ChunksReader extends Reader {
+
+    /**
+     * Chunks of text.
+     */
+    private Iterator<String> chunks;
+
+    /**
+     * Chunk currently being read.
+     */
+    private String current;
+
+    /**
+     * Position in the current chunk.
+     */
+    private int position;
+
+    /**
+     * Ctor.
+     * @param chunks Chunks of text to read.
+     */
+    ChunksReader(final Iterator<String> chunks) {
+        this.chunks = chunks;
+        this.current = "";
+    }
+
+    @Override
+    public int read(final char[] buffer, final int offset, final int length) {
+        int read = 0;
+        while(read < length && this.available()) {
+            final int count = Math.min(
+                length - read, this.current.length() - this.position
+            );
+            this.current.getChars(
+                this.position, this.position + count, buffer, offset + read
+            );
+            this.position += count;
+            read += count;
+        }
+        final int result;
+        if(read == 0 && length > 0) {
+            result = -1;
+        } else {
+            result = read;
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        this.chunks = Collections.emptyIterator();
+        this.current = "";
+        this.position = 0;
+    }
+
+    /**
+     * Are there characters left to read? Moves to the next non-empty
+     * chunk, if the current one has been read completely.
+     * @return True or false.
+     */
+    private boolean available() {
+        while(this.position == this.current.length()
+            && this.chunks.hasNext()) {
+            this.current = this.chunks.next();
+            this.position = 0;
+        }
+        return this.position < this.current.length();
+    }
+}
@@ -35,10 +35,9 @@ import java.util.List;
  * Returns an iterator which collapses the flow-style lines into one single
  * line.<br>
  * <pre>
- * //collapse the lines of flow-style sequeces
- * final YamlLines collapsed = new CollapsedFlowLines(
- *     new AllYamlLines(lines), '[', ']'
- * );
+ * //collapse the lines of flow-style mappings and sequences
+ * final AllYamlLines all = new AllYamlLines(lines);
+ * final YamlLines collapsed = new CollapsedFlowLines(all, all.flowSpans());
  * </pre>
  * Initial lines:<br>
  * <pre>
@@ -57,42 +56,41 @@ import java.util.List;
  * developers: [amihaiemil, sherif, rultor]
  * architect: amihaiemil
  * </pre>
+ * The brackets are not counted again here, the spans of the flow
+ * collections are looked up in the {@link FlowSpans} of the document,
+ * which are computed only once.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
- * @checkstyle ExecutableStatementCount (1000 lines)
- * @checkstyle CyclomaticComplexity (1000 lines)
  * @since 8.0.0
  */
 final class CollapsedFlowLines implements YamlLines {
+
     /**
-     * The flow's opening bracket.
+     * Lines to fold.
      */
-    private final char openingBracket;
+    private final YamlLines lines;
 
     /**
-     * The flow's closing bracket.
+     * Spans of the multi-line flow collections.
      */
-    private final char closingBracket;
+    private final FlowSpans spans;
 
     /**
-     * Lines to fold.
+     * Ctor.
+     * @param lines All the lines of the document.
      */
-    private final YamlLines lines;
+    CollapsedFlowLines(final AllYamlLines lines) {
+        this(lines, lines.flowSpans());
+    }
 
     /**
      * Ctor.
      * @param lines Lines to fold.
-     * @param openingBracket Opening.
-     * @param closingBracket Closing.
+     * @param spans Spans of the flow collections of the document.
      */
-    CollapsedFlowLines(
-        final YamlLines lines,
-        final char openingBracket,
-        final char closingBracket
-    ) {
+    CollapsedFlowLines(final YamlLines lines, final FlowSpans spans) {
         this.lines = lines;
-        this.openingBracket = openingBracket;
-        this.closingBracket = closingBracket;
+        this.spans = spans;
     }
 
     @Override
@@ -102,70 +100,31 @@ final class CollapsedFlowLines implements YamlLines {
 
     @Override
     public Iterator<YamlLine> iterator() {
-        int bracketCount = 0;
-        boolean closedBracketFound = false;
         final List<YamlLine> collapsed = new ArrayList<>();
-        List<YamlLine> flow = new ArrayList<>();
-        boolean startedQuoteEscape = false;
-        boolean startedApEscape = false;
-        for(final YamlLine line : this.lines) {
-            String text = line.trimmed();
-            for (int i = 0; i < text.length(); i++) {
-                final char currentChar = text.charAt(i);
-                if(currentChar == this.openingBracket
-                    && !startedApEscape && !startedQuoteEscape) {
-                    bracketCount++;
-                } else if(currentChar == this.closingBracket
-                    && !startedApEscape && !startedQuoteEscape) {
-                    bracketCount--;
-                    closedBracketFound = true;
+        final Iterator<YamlLine> iterator = this.lines.iterator();
+        while(iterator.hasNext()) {
+            final YamlLine line = iterator.next();
+            final YamlLine end = this.spans.end(line);
+            if(end == null) {
+                collapsed.add(line);
+            } else {
+                final List<YamlLine> flow = new ArrayList<>();
+                flow.add(line);
+                YamlLine current = line;
+                while(current != end && iterator.hasNext()) {
+                    current = iterator.next();
+                    flow.add(current);
                 }
-                if (isEscapeChar(i, '\"', text) && !startedApEscape) {
-                    startedQuoteEscape = !startedQuoteEscape;
-                } else if (isEscapeChar(i, '\'', text) && !startedQuoteEscape) {
-                    startedApEscape = !startedApEscape;
+                if(current != end) {
+                    throw new IllegalStateException(
+                        "Flow YamlNode starting at line "
+                        + line.number()
+                        + " not closed. Closing bracket not found."
+                    );
                 }
-            }
-            if(bracketCount % 2 != 0) {
-                flow.add(line);
-            } else if(bracketCount == 0 && closedBracketFound) {
-                flow.add(line);
                 collapsed.add(new CollapsedYamlLine(flow));
-                flow = new ArrayList<>();
-                closedBracketFound = false;
-            } else {
-                collapsed.add(line);
             }
         }
-        
-        if(bracketCount != 0) {
-            throw new IllegalStateException(
-                "Flow YamlNode starting at line "
-                + this.lines.line(0).number()
-                + " not closed. "
-                +"Closing bracket " + this.closingBracket + " not found."
-            );
-        }
         return collapsed.iterator();
     }
-
-    /**
-     * Does the string contain an escape chartacter at the specified index?
-     * @param start Index.
-     * @param escapeChar Escape character to look for.
-     * @param nodes String containing the characters.
-     * @return True if the escape character is found and it is
-     *  not preceded by a backslash.
-     */
-    private boolean isEscapeChar(
-        final int start, final char escapeChar, final String nodes
-    ) {
-        final boolean result;
-        if (nodes.charAt(start) == escapeChar) {
-            result = start == 0 || nodes.charAt(start - 1) != '\\';
-        } else {
-            result = false;
-        }
-        return result;
-    }
 }
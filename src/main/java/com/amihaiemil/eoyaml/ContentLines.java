@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+/**
+ * Lines of a content, read whole and added to a {@link YamlScalarBuilder}.
+ * Used by the default block scalar methods of {@link YamlScalarBuilder},
+ * for implementations which do not stream the content.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class ContentLines {
+
+    /**
+     * Source of the content.
+     */
+    private final Supplier<Reader> content;
+
+    /**
+     * Ctor.
+     * @param content Source of the content.
+     */
+    ContentLines(final Supplier<Reader> content) {
+        this.content = content;
+    }
+
+    /**
+     * Add the lines of the content to the given builder.
+     * @param builder YamlScalarBuilder.
+     * @return Builder with the lines added.
+     * @throws UncheckedIOException If the content cannot be read.
+     */
+    YamlScalarBuilder addedTo(final YamlScalarBuilder builder) {
+        YamlScalarBuilder added = builder;
+        try (BufferedReader lines = new BufferedReader(this.content.get())) {
+            String line = lines.readLine();
+            while(line != null) {
+                added = added.addLine(line);
+                line = lines.readLine();
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return added;
+    }
+}
@@ -28,6 +28,7 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -69,6 +70,11 @@ public class EmptyYamlMapping extends BaseYamlMapping {
         return null;
     }
 
+    @Override
+    public final Set<Map.Entry<YamlNode, YamlNode>> entries() {
+        return Collections.emptySet();
+    }
+
     @Override
     public final Comment comment() {
         final Comment comment;
@@ -0,0 +1,317 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recursive-descent parser for flow-style YAML collections. It goes over
+ * the (collapsed) text of a flow mapping or sequence exactly once and
+ * builds the whole nested structure, so nested flow values are never
+ * re-tokenised. Example:
+ * <pre>
+ * {name: eo-yaml, developers: [amihaiemil, "sherif, waly"], score: {a: 1}}
+ * </pre>
+ * Scalars are kept as written (quotes included) and wrapped in
+ * {@link PlainStringScalar}, which takes care of unescaping them.
+ * Mapping entries are kept in a LinkedHashMap, so the lookup by key is
+ * O(1) and the order of the keys is preserved.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ * @checkstyle CyclomaticComplexity (400 lines)
+ */
+final class FlowParser {
+
+    /**
+     * Line containing the whole flow collection, collapsed.
+     */
+    private final YamlLine folded;
+
+    /**
+     * Line just before the one where the flow collection starts.
+     */
+    private final YamlLine previous;
+
+    /**
+     * All the lines of the YAML document.
+     */
+    private final AllYamlLines all;
+
+    /**
+     * Text being parsed.
+     */
+    private String text;
+
+    /**
+     * Current position in the text.
+     */
+    private int position;
+
+    /**
+     * Ctor.
+     * @param folded Line containing the whole flow collection, collapsed.
+     * @param previous Line just before the start of the flow collection.
+     * @param all All the lines of the YAML document.
+     */
+    FlowParser(
+        final YamlLine folded, final YamlLine previous, final AllYamlLines all
+    ) {
+        this.folded = folded;
+        this.previous = previous;
+        this.all = all;
+    }
+
+    /**
+     * Parse the entries of the flow mapping found on the folded line.
+     * @return Ordered, unmodifiable entries of the flow mapping.
+     */
+    Map<YamlNode, YamlNode> mapping() {
+        this.start('{');
+        return this.readMapping();
+    }
+
+    /**
+     * Parse the elements of the flow sequence found on the folded line.
+     * @return Unmodifiable elements of the flow sequence.
+     */
+    List<YamlNode> sequence() {
+        this.start('[');
+        return this.readSequence();
+    }
+
+    /**
+     * Position the parser on the first unescaped opening bracket. Anything
+     * before it (e.g. the key or the dash on the same line) is ignored.
+     * @param opening Opening bracket.
+     */
+    private void start(final char opening) {
+        this.text = this.folded.trimmed();
+        this.position = 0;
+        while(this.position < this.text.length()
+            && this.text.charAt(this.position) != opening) {
+            final char current = this.text.charAt(this.position);
+            if(current == '"' || current == '\'') {
+                this.skipQuoted(current);
+            } else {
+                this.position++;
+            }
+        }
+        if(this.position == this.text.length()) {
+            throw new IllegalStateException(
+                "Expected flow node starting with " + opening
+                + " on line " + (this.folded.number() + 1)
+            );
+        }
+    }
+
+    /**
+     * Read a flow mapping. The current char is the opening '{'.
+     * @return Ordered, unmodifiable entries of the mapping.
+     */
+    private Map<YamlNode, YamlNode> readMapping() {
+        final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>();
+        this.position++;
+        this.skipSpaces();
+        while(!this.closes('}')) {
+            final YamlNode key = this.readNode(true);
+            this.skipSpaces();
+            if(this.current() != ':') {
+                throw new IllegalStateException("Invalid flow YamlMapping!");
+            }
+            this.position++;
+            entries.put(key, this.readNode(false));
+            this.skipSeparator('}');
+        }
+        return Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * Read a flow sequence. The current char is the opening '['.
+     * @return Unmodifiable elements of the sequence.
+     */
+    private List<YamlNode> readSequence() {
+        final List<YamlNode> elements = new ArrayList<>();
+        this.position++;
+        this.skipSpaces();
+        while(!this.closes(']')) {
+            elements.add(this.readNode(false));
+            this.skipSeparator(']');
+        }
+        return Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * Read a node: a nested flow mapping, a nested flow sequence or a
+     * scalar.
+     * @param key Is the node a mapping key? Keys end at the first ':'.
+     * @return YamlNode.
+     */
+    private YamlNode readNode(final boolean key) {
+        this.skipSpaces();
+        final YamlNode node;
+        final char current = this.current();
+        if(current == '{') {
+            node = new ReadFlowMapping(
+                this.readMapping(), this.folded, this.previous, this.all
+            );
+        } else if(current == '[') {
+            node = new ReadFlowSequence(
+                this.readSequence(), this.folded, this.previous, this.all
+            );
+        } else {
+            node = new PlainStringScalar(this.readScalar(key));
+        }
+        return node;
+    }
+
+    /**
+     * Read a scalar, as it is written (quotes included), until the next
+     * unescaped separator.
+     * @param key Is the scalar a mapping key? Keys also end at ':'.
+     * @return Trimmed scalar text.
+     */
+    private String readScalar(final boolean key) {
+        final int start = this.position;
+        while(this.position < this.text.length()) {
+            final char current = this.text.charAt(this.position);
+            if(FlowParser.ends(current, key)) {
+                break;
+            }
+            if(current == '"' || current == '\'') {
+                this.skipQuoted(current);
+            } else {
+                this.position++;
+            }
+        }
+        return this.text.substring(start, this.position).trim();
+    }
+
+    /**
+     * Does the given char end a scalar?
+     * @param current Char.
+     * @param key Is the scalar a mapping key?
+     * @return True or false.
+     */
+    private static boolean ends(final char current, final boolean key) {
+        final boolean ends;
+        if(key && current == ':') {
+            ends = true;
+        } else {
+            ends = current == ',' || current == '}' || current == ']';
+        }
+        return ends;
+    }
+
+    /**
+     * Go over a quoted value. Inside double quotes a backslash escapes the
+     * next char, while inside single quotes the quote is escaped by doubling
+     * it (''), which simply re-opens the quoted value.
+     * @param quote The quote char (' or ").
+     */
+    private void skipQuoted(final char quote) {
+        final int start = this.position;
+        this.position++;
+        while(this.position < this.text.length()
+            && this.text.charAt(this.position) != quote) {
+            if(quote == '"' && this.text.charAt(this.position) == '\\') {
+                this.position++;
+            }
+            this.position++;
+        }
+        if(this.position >= this.text.length()) {
+            throw new IllegalStateException(
+                "Could not find closing pair (" + quote
+                + ") for escaped value starting at " + start
+                + " on line " + (this.folded.number() + 1)
+            );
+        }
+        this.position++;
+    }
+
+    /**
+     * Skip the comma separating two entries, if any.
+     * @param closing Closing bracket of the current collection.
+     */
+    private void skipSeparator(final char closing) {
+        this.skipSpaces();
+        final char current = this.current();
+        if(current == ',') {
+            this.position++;
+            this.skipSpaces();
+        } else if(current != closing) {
+            throw new IllegalStateException(
+                "Expected ',' or '" + closing + "' at position "
+                + this.position + " on line " + (this.folded.number() + 1)
+            );
+        }
+    }
+
+    /**
+     * Is the current char the given closing bracket? If so, go past it.
+     * @param closing Closing bracket.
+     * @return True if the collection has been closed, false otherwise.
+     */
+    private boolean closes(final char closing) {
+        final boolean closed = this.current() == closing;
+        if(closed) {
+            this.position++;
+        }
+        return closed;
+    }
+
+    /**
+     * The current char.
+     * @return Char at the current position.
+     * @throws IllegalStateException If the end of the text was reached,
+     *  which means a bracket was not closed.
+     */
+    private char current() {
+        if(this.position >= this.text.length()) {
+            throw new IllegalStateException(
+                "Could not find closing bracket for flow node"
+                + " on line " + (this.folded.number() + 1)
+            );
+        }
+        return this.text.charAt(this.position);
+    }
+
+    /**
+     * Skip the white spaces.
+     */
+    private void skipSpaces() {
+        while(this.position < this.text.length()
+            && Character.isWhitespace(this.text.charAt(this.position))) {
+            this.position++;
+        }
+    }
+}
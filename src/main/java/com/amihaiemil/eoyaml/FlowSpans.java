@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Spans of the flow collections (mappings and sequences) which are
+ * written on more than one line. They are computed in a single pass
+ * over the characters of all the lines and then shared by every node
+ * which needs the flow lines collapsed (see {@link CollapsedFlowLines}).
+ * <br><br>
+ * For example, in the following document:
+ * <pre>
+ * 0  name: eo-yaml
+ * 1  developers: [
+ * 2    amihaiemil,
+ * 3    {name: sherif,
+ * 4     role: dev}]
+ * 5  architect: amihaiemil
+ * </pre>
+ * there is one span, starting on line 1 and ending on line 4. Flow
+ * collections which are opened and closed on the same line, as well as
+ * nested collections, are not spans of their own.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ * @checkstyle CyclomaticComplexity (200 lines)
+ * @checkstyle ExecutableStatementCount (200 lines)
+ */
+final class FlowSpans {
+
+    /**
+     * Lines starting with these prefixes are skipped by every node, so
+     * they are not part of any flow collection.
+     */
+    private static final String[] IGNORED = {"#", "---", "...", "%", "!!"};
+
+    /**
+     * Lines of the document.
+     */
+    private final Iterable<YamlLine> lines;
+
+    /**
+     * Bracket-pairing table: the line where a multi-line flow collection
+     * starts, mapped to the line where it ends. If the collection is not
+     * closed, it is mapped to a {@link YamlLine.NullYamlLine}.
+     * Null until first needed.
+     */
+    private volatile Map<YamlLine, YamlLine> spans;
+
+    /**
+     * Ctor.
+     * @param lines Lines of the document.
+     */
+    FlowSpans(final Iterable<YamlLine> lines) {
+        this.lines = lines;
+    }
+
+    /**
+     * Where does the flow collection starting on the given line end?
+     * @param start Line.
+     * @return The last line of the flow collection, null if no multi-line
+     *  flow collection starts on the given line or a
+     *  {@link YamlLine.NullYamlLine} if the flow collection is not closed.
+     */
+    YamlLine end(final YamlLine start) {
+        Map<YamlLine, YamlLine> table = this.spans;
+        if(table == null) {
+            table = this.pairBrackets();
+            this.spans = table;
+        }
+        return table.get(start);
+    }
+
+    /**
+     * Go once over all the characters and pair the opening brackets with
+     * the closing ones. Brackets within quoted values are ignored. Lines
+     * which are comments, directives or document markers are ignored as
+     * well.
+     * @return Table of the flow spans.
+     */
+    private Map<YamlLine, YamlLine> pairBrackets() {
+        final Map<YamlLine, YamlLine> table = new IdentityHashMap<>();
+        YamlLine start = null;
+        int depth = 0;
+        char quote = 0;
+        char last = 0;
+        for(final YamlLine line : this.lines) {
+            final String text = line.trimmed();
+            if(FlowSpans.ignored(text)) {
+                continue;
+            }
+            final int before = depth;
+            for(int idx = 0; idx < text.length(); idx++) {
+                final char current = text.charAt(idx);
+                if(quote != 0) {
+                    if(current == quote
+                        && FlowSpans.preceding(text, idx, last) != '\\') {
+                        quote = 0;
+                    }
+                } else if(current == '"' || current == '\'') {
+                    quote = FlowSpans.opensQuote(text, idx);
+                } else if(current == '{' || current == '[') {
+                    depth++;
+                } else if((current == '}' || current == ']') && depth > 0) {
+                    depth--;
+                }
+            }
+            if(before == 0 && depth > 0) {
+                start = line;
+                table.put(start, new YamlLine.NullYamlLine());
+            } else if(before > 0 && depth == 0) {
+                table.put(start, line);
+            }
+            if(depth == 0) {
+                quote = 0;
+            }
+            if(!text.isEmpty()) {
+                last = text.charAt(text.length() - 1);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * The character preceding the given index. For the first character of
+     * a line, it is the last character of the previous line, so an escape
+     * at the end of a line is carried over to the next one.
+     * @param text Text.
+     * @param idx Index.
+     * @param last Last character of the previous line.
+     * @return The preceding char.
+     */
+    private static char preceding(
+        final String text, final int idx, final char last
+    ) {
+        final char preceding;
+        if(idx == 0) {
+            preceding = last;
+        } else {
+            preceding = text.charAt(idx - 1);
+        }
+        return preceding;
+    }
+
+    /**
+     * Does the quote at the given index open an escaped value? It does not
+     * if it is preceded by a backslash.
+     * @param text Text.
+     * @param idx Index of the quote.
+     * @return The quote char or 0 if no escaped value is opened.
+     */
+    private static char opensQuote(final String text, final int idx) {
+        final char quote;
+        if(idx == 0 || text.charAt(idx - 1) != '\\') {
+            quote = text.charAt(idx);
+        } else {
+            quote = 0;
+        }
+        return quote;
+    }
+
+    /**
+     * Is this (trimmed) line ignored when pairing brackets?
+     * @param trimmed Trimmed line.
+     * @return True or false.
+     */
+    private static boolean ignored(final String trimmed) {
+        boolean ignored = false;
+        for(final String prefix : FlowSpans.IGNORED) {
+            if(trimmed.startsWith(prefix)) {
+                ignored = true;
+                break;
+            }
+        }
+        return ignored;
+    }
+}
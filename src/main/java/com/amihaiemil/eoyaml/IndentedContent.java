@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Content of a block scalar, indented on the fly, while it is copied
+ * in chunks from a Reader to a Writer. Each line gets the same
+ * indentation and the trailing line separators are dropped, so the
+ * content is never held in memory as a whole.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class IndentedContent {
+
+    /**
+     * Size of the chunks which are copied at once.
+     */
+    private static final int CHUNK = 8192;
+
+    /**
+     * Content to indent.
+     */
+    private final Reader content;
+
+    /**
+     * Indentation, as spaces.
+     */
+    private final String indentation;
+
+    /**
+     * Line separator.
+     */
+    private final String lineSeparator;
+
+    /**
+     * Ctor.
+     * @param content Content to indent. It will be closed after printing.
+     * @param indentation Number of indentation spaces.
+     * @param lineSeparator Line separator.
+     */
+    IndentedContent(
+        final Reader content,
+        final int indentation,
+        final String lineSeparator
+    ) {
+        this.content = content;
+        final StringBuilder spaces = new StringBuilder();
+        for(int idx = 0; idx < indentation; idx++) {
+            spaces.append(' ');
+        }
+        this.indentation = spaces.toString();
+        this.lineSeparator = lineSeparator;
+    }
+
+    /**
+     * Print the indented content.
+     * @param writer Where to print it.
+     * @throws IOException If the content cannot be read or written.
+     */
+    void printTo(final Writer writer) throws IOException {
+        final Lines lines = new Lines(
+            writer, this.indentation, this.lineSeparator
+        );
+        final char[] chunk = new char[IndentedContent.CHUNK];
+        try {
+            int read = this.content.read(chunk);
+            while(read != -1) {
+                for(int idx = 0; idx < read; idx++) {
+                    lines.write(chunk[idx]);
+                }
+                read = this.content.read(chunk);
+            }
+        } finally {
+            this.content.close();
+        }
+        lines.end();
+    }
+
+    /**
+     * Lines being written. The line separators are held back until
+     * some more content follows them, so the trailing ones are dropped.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class Lines {
+
+        /**
+         * Destination.
+         */
+        private final Writer writer;
+
+        /**
+         * Indentation, as spaces.
+         */
+        private final String indentation;
+
+        /**
+         * Line separator.
+         */
+        private final String lineSeparator;
+
+        /**
+         * Has the first line been started?
+         */
+        private boolean started;
+
+        /**
+         * Line separators held back.
+         */
+        private int breaks;
+
+        /**
+         * How many chars of a line separator have been matched so far.
+         */
+        private int matched;
+
+        /**
+         * Ctor.
+         * @param writer Destination.
+         * @param indentation Indentation, as spaces.
+         * @param lineSeparator Line separator.
+         */
+        Lines(
+            final Writer writer,
+            final String indentation,
+            final String lineSeparator
+        ) {
+            this.writer = writer;
+            this.indentation = indentation;
+            this.lineSeparator = lineSeparator;
+        }
+
+        /**
+         * Write the next char of the content.
+         * @param current Char.
+         * @throws IOException If it cannot be written.
+         */
+        void write(final char current) throws IOException {
+            if(current == this.lineSeparator.charAt(this.matched)) {
+                this.matched++;
+                if(this.matched == this.lineSeparator.length()) {
+                    this.breaks++;
+                    this.matched = 0;
+                }
+            } else {
+                final boolean partial = this.matched > 0;
+                this.partial();
+                if(partial) {
+                    this.write(current);
+                } else {
+                    this.pending();
+                    this.writer.write(current);
+                }
+            }
+        }
+
+        /**
+         * The content has ended.
+         * @throws IOException If something cannot be written.
+         */
+        void end() throws IOException {
+            this.partial();
+            if(!this.started) {
+                this.writer.write(this.indentation);
+            }
+        }
+
+        /**
+         * A line separator was only partially matched, so its chars are
+         * written as content.
+         * @throws IOException If they cannot be written.
+         */
+        private void partial() throws IOException {
+            if(this.matched > 0) {
+                this.pending();
+                this.writer.write(this.lineSeparator, 0, this.matched);
+                this.matched = 0;
+            }
+        }
+
+        /**
+         * Write what is pending before the next content: the indentation
+         * of the first line and the line separators held back.
+         * @throws IOException If it cannot be written.
+         */
+        private void pending() throws IOException {
+            if(!this.started) {
+                this.writer.write(this.indentation);
+                this.started = true;
+            }
+            for(; this.breaks > 0; this.breaks--) {
+                this.writer.write(this.lineSeparator);
+                this.writer.write(this.indentation);
+            }
+        }
+    }
+}
@@ -0,0 +1,403 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prints YAML nodes straight to an {@link IndentingWriter}, walking the
+ * tree only once. Children are never printed to an intermediate String:
+ * the indentation level of the writer is increased while they are printed.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class IndentedPrint {
+
+    /**
+     * Where the YAML is printed.
+     */
+    private final IndentingWriter out;
+
+    /**
+     * Print each node as block-style always.
+     */
+    private final boolean alwaysBlock;
+
+    /**
+     * Ctor.
+     * @param out Where the YAML is printed.
+     * @param alwaysBlock Print each node as block-style always.
+     */
+    IndentedPrint(final IndentingWriter out, final boolean alwaysBlock) {
+        this.out = out;
+        this.alwaysBlock = alwaysBlock;
+    }
+
+    /**
+     * Print any YamlNode. Null or empty nodes are printed as null, [], {}
+     * or an empty document.
+     * @param node YamlNode, possibly null.
+     * @throws IOException If something goes wrong while writing.
+     */
+    void node(final YamlNode node) throws IOException {
+        if (node == null || node.isEmpty()) {
+            if (node instanceof YamlSequence) {
+                this.out.write("[]");
+            } else if (node instanceof YamlMapping) {
+                this.out.write("{}");
+            } else if (node instanceof YamlStream) {
+                this.out.write("---");
+                this.out.newLine();
+                this.out.write("...");
+            } else {
+                this.out.write("null");
+            }
+        } else if (node instanceof Scalar) {
+            this.scalar((Scalar) node);
+        } else if (node instanceof YamlSequence) {
+            this.sequence((YamlSequence) node);
+        } else if (node instanceof YamlMapping) {
+            this.mapping((YamlMapping) node);
+        } else if (node instanceof YamlStream) {
+            this.stream((YamlStream) node);
+        }
+    }
+
+    /**
+     * Print the comment of a node, if it has one. Each line of the comment
+     * is printed as a separate line, starting with '# '. For scalars,
+     * only the comment above them is printed.
+     * @param node Node containing the Comment.
+     * @return True if a comment was printed, false otherwise.
+     * @throws IOException If something goes wrong while writing.
+     */
+    boolean comment(final YamlNode node) throws IOException {
+        boolean printed = false;
+        if(node != null && node.comment() != null) {
+            final Comment comment;
+            if(node.comment() instanceof ScalarComment) {
+                comment = ((ScalarComment) node.comment()).above();
+            } else {
+                comment = node.comment();
+            }
+            final String value = comment.value();
+            if (value.trim().length() != 0) {
+                for (final String line
+                    : value.split(this.out.lineSeparator())) {
+                    this.out.write("# ");
+                    this.out.write(line);
+                    this.out.newLine();
+                }
+                printed = true;
+            }
+        }
+        return printed;
+    }
+
+    /**
+     * Print one element of a block sequence or of a stream, the same way
+     * it is printed inside its parent, without the line break which
+     * separates it from the previous element.
+     * @param parent Block YamlSequence or YamlStream.
+     * @param value Element.
+     * @throws IOException If something goes wrong while writing.
+     */
+    void element(
+        final YamlNode parent, final YamlNode value
+    ) throws IOException {
+        if(parent instanceof YamlStream) {
+            this.out.write("---");
+            this.out.newLine();
+            this.indented(value);
+        } else {
+            this.blockItem(value);
+        }
+    }
+
+    /**
+     * Are the elements of this node printed one after the other, on
+     * separate lines? Streams and block sequences are.
+     * @param node YamlNode.
+     * @return True or false.
+     */
+    boolean isSplit(final YamlNode node) {
+        return node instanceof YamlStream
+            || node instanceof YamlSequence && !this.isFlow(node);
+    }
+
+    /**
+     * Print a YamlMapping, in flow or block style.
+     * @param node YamlMapping.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void mapping(final YamlMapping node) throws IOException {
+        if(this.isFlow(node)) {
+            this.out.write("{");
+            final Set<Map.Entry<YamlNode, YamlNode>> entries = node.entries();
+            int idx = 0;
+            for (final Map.Entry<YamlNode, YamlNode> entry : entries) {
+                this.node(entry.getKey());
+                this.out.write(": ");
+                this.node(entry.getValue());
+                idx++;
+                if(idx < entries.size()) {
+                    this.out.write(", ");
+                }
+            }
+            this.out.write("}");
+        } else {
+            boolean first = true;
+            for (final Map.Entry<YamlNode, YamlNode> entry : node.entries()) {
+                if(!first) {
+                    this.out.newLine();
+                }
+                first = false;
+                this.blockEntry(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Print an entry of a block mapping.
+     * @param key Key.
+     * @param value Value.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void blockEntry(
+        final YamlNode key, final YamlNode value
+    ) throws IOException {
+        this.comment(value);
+        if(key.type().equals(Node.SCALAR)) {
+            this.node(key);
+        } else {
+            this.out.write("?");
+            this.out.newLine();
+            this.indented(key);
+            this.out.newLine();
+        }
+        if(this.isInline(value)) {
+            this.out.write(": ");
+            this.node(value);
+        } else {
+            this.out.write(":");
+            this.out.newLine();
+            this.indented(value);
+        }
+    }
+
+    /**
+     * Print a YamlSequence, in flow or block style.
+     * @param node YamlSequence.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void sequence(final YamlSequence node) throws IOException {
+        if(this.isFlow(node)) {
+            this.out.write("[");
+            final Collection<YamlNode> values = node.values();
+            int idx = 0;
+            for (final YamlNode value : values) {
+                this.node(value);
+                idx++;
+                if(idx < values.size()) {
+                    this.out.write(", ");
+                }
+            }
+            this.out.write("]");
+        } else {
+            boolean first = true;
+            for(final YamlNode value : node.values()) {
+                if(!first) {
+                    this.out.newLine();
+                }
+                first = false;
+                this.blockItem(value);
+            }
+        }
+    }
+
+    /**
+     * Print an item of a block sequence.
+     * @param value Item.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void blockItem(final YamlNode value) throws IOException {
+        this.comment(value);
+        if(this.isInline(value)) {
+            this.out.write("- ");
+            this.node(value);
+        } else {
+            this.out.write("-");
+            this.out.newLine();
+            this.indented(value);
+        }
+    }
+
+    /**
+     * Print a Scalar: plain (escaped if needed), folded or literal.
+     * @param node Scalar.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void scalar(final Scalar node) throws IOException {
+        if (node instanceof BaseFoldedScalar) {
+            this.folded((BaseFoldedScalar) node);
+        } else if (IndentedPrint.isLiteral(node)) {
+            this.out.write("|");
+            this.inlineComment(node.comment());
+            this.out.newLine();
+            new IndentedContent(
+                node.reader(), this.out.step(), this.out.lineSeparator()
+            ).printTo(this.out);
+        } else {
+            this.out.write(new YamlPrintVisitor.Escaped(node).value());
+            final Comment comment = node.comment();
+            if (comment instanceof ScalarComment) {
+                this.inlineComment(((ScalarComment) comment).inline());
+            }
+        }
+    }
+
+    /**
+     * Print a folded block scalar, one unfolded line at a time.
+     * @param node Folded block scalar.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void folded(final BaseFoldedScalar node) throws IOException {
+        this.out.write(">");
+        this.inlineComment(node.comment());
+        this.out.newLine();
+        final Iterator<String> unfolded = node.unfolded();
+        this.out.indent();
+        while(unfolded.hasNext()) {
+            this.out.mark();
+            this.out.write(unfolded.next().trim());
+            if(unfolded.hasNext()) {
+                this.out.newLine();
+            }
+        }
+        this.out.unindent();
+    }
+
+    /**
+     * Print a YamlStream: each document starts with '---' and is indented.
+     * @param node YamlStream.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void stream(final YamlStream node) throws IOException {
+        boolean first = true;
+        for(final YamlNode document : node.values()) {
+            if(!first) {
+                this.out.newLine();
+            }
+            first = false;
+            this.element(node, document);
+        }
+    }
+
+    /**
+     * Print a node one level deeper.
+     * @param node YamlNode.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void indented(final YamlNode node) throws IOException {
+        this.out.indent();
+        this.out.mark();
+        this.node(node);
+        this.out.unindent();
+    }
+
+    /**
+     * Print a comment on the same line, after the node, if it is not empty.
+     * @param comment Comment.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void inlineComment(final Comment comment) throws IOException {
+        if(!comment.value().isEmpty()) {
+            this.out.write(" # ");
+            this.out.write(comment.value());
+        }
+    }
+
+    /**
+     * Is the value printed on the same line as its key or dash? Scalars,
+     * nulls, empty collections and flow collections are.
+     * @param value Value.
+     * @return True or false.
+     */
+    private boolean isInline(final YamlNode value) {
+        final boolean inline;
+        if(value == null || value.type().equals(Node.SCALAR)) {
+            inline = true;
+        } else {
+            inline = value.isEmpty() && !(value instanceof YamlStream)
+                || this.isFlow(value);
+        }
+        return inline;
+    }
+
+    /**
+     * Is this collection printed in flow style?
+     * @param node YamlNode.
+     * @return True or false.
+     */
+    private boolean isFlow(final YamlNode node) {
+        return IndentedPrint.isFlowStyle(node) && !this.alwaysBlock;
+    }
+
+    /**
+     * Is this collection written in flow style (read as flow or JSON)?
+     * @param node YamlNode.
+     * @return True or false.
+     */
+    static boolean isFlowStyle(final YamlNode node) {
+        final boolean flow;
+        if(node instanceof YamlMapping) {
+            flow = node instanceof ReadFlowMapping
+                || node instanceof JsonYamlMapping;
+        } else {
+            flow = node instanceof ReadFlowSequence
+                || node instanceof JsonYamlSequence;
+        }
+        return flow;
+    }
+
+    /**
+     * Is the given scalar a literal block scalar?
+     * @param node Scalar.
+     * @return True or false.
+     */
+    static boolean isLiteral(final Scalar node) {
+        return node instanceof RtYamlScalarBuilder.BuiltLiteralBlockScalar
+            || node instanceof ReadLiteralBlockScalar
+            || node instanceof RtYamlScalarBuilder.StreamedLiteralBlockScalar;
+    }
+}
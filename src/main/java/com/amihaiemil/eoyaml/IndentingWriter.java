@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer which indents every line written through it. The indentation
+ * level is kept as state: a printer increases it before writing a child
+ * node and decreases it afterwards, so the child's text is never copied
+ * in order to be indented.<br><br>
+ * The indentation is written right before the first char of each line
+ * (including the line separator of an empty line).
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class IndentingWriter extends Writer {
+
+    /**
+     * Destination.
+     */
+    private final Writer out;
+
+    /**
+     * Number of spaces per indentation level.
+     */
+    private final int step;
+
+    /**
+     * Line separator.
+     */
+    private final String lineSeparator;
+
+    /**
+     * Current indentation level.
+     */
+    private int level;
+
+    /**
+     * Is the next char at the start of a line?
+     */
+    private boolean lineStart;
+
+    /**
+     * Ctor.
+     * @param out Destination.
+     * @param step Number of spaces per indentation level.
+     * @param lineSeparator Line separator.
+     */
+    IndentingWriter(
+        final Writer out, final int step, final String lineSeparator
+    ) {
+        this.out = out;
+        this.step = step;
+        this.lineSeparator = lineSeparator;
+        this.lineStart = true;
+    }
+
+    /**
+     * The line separator used by this writer.
+     * @return String.
+     */
+    String lineSeparator() {
+        return this.lineSeparator;
+    }
+
+    /**
+     * Number of spaces per indentation level.
+     * @return Integer.
+     */
+    int step() {
+        return this.step;
+    }
+
+    /**
+     * Increase the indentation level.
+     */
+    void indent() {
+        this.level = this.level + 1;
+    }
+
+    /**
+     * Decrease the indentation level.
+     */
+    void unindent() {
+        this.level = this.level - 1;
+    }
+
+    /**
+     * Write a line separator.
+     * @throws IOException If something goes wrong.
+     */
+    void newLine() throws IOException {
+        this.write(this.lineSeparator);
+    }
+
+    /**
+     * Write the indentation of the current line now, if it was not written
+     * yet, even if the line will stay empty.
+     * @throws IOException If something goes wrong.
+     */
+    void mark() throws IOException {
+        if(this.lineStart) {
+            this.lineStart = false;
+            for(int idx = this.level * this.step; idx > 0; --idx) {
+                this.out.write(' ');
+            }
+        }
+    }
+
+    @Override
+    public void write(final int chr) throws IOException {
+        this.mark();
+        this.out.write(chr);
+        this.lineStart = this.ends((char) chr);
+    }
+
+    @Override
+    public void write(
+        final char[] cbuf, final int off, final int len
+    ) throws IOException {
+        int start = off;
+        for(int idx = off; idx < off + len; ++idx) {
+            if(this.lineStart) {
+                this.out.write(cbuf, start, idx - start);
+                this.mark();
+                start = idx;
+            }
+            this.lineStart = this.ends(cbuf[idx]);
+        }
+        this.out.write(cbuf, start, off + len - start);
+    }
+
+    @Override
+    public void write(
+        final String str, final int off, final int len
+    ) throws IOException {
+        int start = off;
+        for(int idx = off; idx < off + len; ++idx) {
+            if(this.lineStart) {
+                this.out.write(str, start, idx - start);
+                this.mark();
+                start = idx;
+            }
+            this.lineStart = this.ends(str.charAt(idx));
+        }
+        this.out.write(str, start, off + len - start);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    /**
+     * Does the given char end a line?
+     * @param chr Char.
+     * @return True or false.
+     */
+    private boolean ends(final char chr) {
+        return chr == this.lineSeparator.charAt(
+            this.lineSeparator.length() - 1
+        );
+    }
+}
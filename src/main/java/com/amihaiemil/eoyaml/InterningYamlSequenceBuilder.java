@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * YamlSequenceBuilder decorator which interns the built sequences, so
+ * identical sequences built with it are one and the same instance.
+ * It is immutable and thread-safe if the decorated builder is.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class InterningYamlSequenceBuilder implements YamlSequenceBuilder {
+
+    /**
+     * Decorated builder.
+     */
+    private final YamlSequenceBuilder origin;
+
+    /**
+     * Interner of the built sequences.
+     */
+    private final YamlInterner interner;
+
+    /**
+     * Ctor.
+     * @param origin Decorated builder.
+     * @param interner Interner of the built sequences.
+     */
+    InterningYamlSequenceBuilder(
+        final YamlSequenceBuilder origin, final YamlInterner interner
+    ) {
+        this.origin = origin;
+        this.interner = interner;
+    }
+
+    @Override
+    public YamlSequenceBuilder add(final String value) {
+        return new InterningYamlSequenceBuilder(
+            this.origin.add(value), this.interner
+        );
+    }
+
+    @Override
+    public YamlSequenceBuilder add(final YamlNode node) {
+        return new InterningYamlSequenceBuilder(
+            this.origin.add(node), this.interner
+        );
+    }
+
+    @Override
+    public YamlSequence build(final String comment) {
+        return this.interner.intern(this.origin.build(comment));
+    }
+}
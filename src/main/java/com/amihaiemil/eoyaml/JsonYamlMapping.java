@@ -28,7 +28,11 @@
 package com.amihaiemil.eoyaml;
 
 import javax.json.JsonObject;
+import javax.json.JsonValue;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -73,6 +77,19 @@ final class JsonYamlMapping extends BaseYamlMapping {
         return value;
     }
 
+    @Override
+    public Set<Map.Entry<YamlNode, YamlNode>> entries() {
+        final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>();
+        for(final Map.Entry<String, JsonValue> entry
+            : this.object.entrySet()) {
+            entries.put(
+                new PlainStringScalar(entry.getKey()),
+                new JsonYamlDump(entry.getValue()).dump()
+            );
+        }
+        return Collections.unmodifiableMap(entries).entrySet();
+    }
+
     @Override
     public Comment comment() {
         return new Comment() {
@@ -87,4 +104,9 @@ final class JsonYamlMapping extends BaseYamlMapping {
             }
         };
     }
+
+    @Override
+    boolean stable() {
+        return true;
+    }
 }
\ No newline at end of file
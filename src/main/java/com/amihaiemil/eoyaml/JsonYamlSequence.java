@@ -29,6 +29,8 @@ package com.amihaiemil.eoyaml;
 
 import javax.json.JsonArray;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +46,11 @@ final class JsonYamlSequence extends BaseYamlSequence {
      */
     private final JsonArray array;
 
+    /**
+     * Elements of the array, converted only once.
+     */
+    private volatile List<YamlNode> elements;
+
     /**
      * Ctor.
      * @param array Json array being mapped.
@@ -53,11 +60,23 @@ final class JsonYamlSequence extends BaseYamlSequence {
         this.array = array;
     }
 
+    @Override
+    boolean fixedElements() {
+        return true;
+    }
+
     @Override
     public Collection<YamlNode> values() {
-        return this.array.stream()
-            .map(value -> new JsonYamlDump(value).dump())
-            .collect(Collectors.toList());
+        List<YamlNode> values = this.elements;
+        if(values == null) {
+            values = Collections.unmodifiableList(
+                this.array.stream()
+                    .map(value -> new JsonYamlDump(value).dump())
+                    .collect(Collectors.toList())
+            );
+            this.elements = values;
+        }
+        return values;
     }
 
     @Override
@@ -74,4 +93,9 @@ final class JsonYamlSequence extends BaseYamlSequence {
             }
         };
     }
+
+    @Override
+    boolean stable() {
+        return true;
+    }
 }
\ No newline at end of file
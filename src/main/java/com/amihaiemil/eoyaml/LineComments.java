@@ -0,0 +1,276 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Collection;
+
+/**
+ * Comments of the lines of a YAML document, indexed in a single pass over
+ * the lines, the first time they are needed. Afterwards, the comment above
+ * a line and the inline comment of a line are looked up by the line's
+ * number, instead of iterating (backwards) over all the lines every time a
+ * node's comment is asked for.
+ * <br><br>
+ * The comment above a line is made of the consecutive comment-lines which
+ * are right above it. Lines starting with "...", "%" or "!!" are ignored.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class LineComments {
+
+    /**
+     * Lines of the document.
+     */
+    private final Collection<YamlLine> lines;
+
+    /**
+     * The index, null until first needed.
+     */
+    private volatile Index index;
+
+    /**
+     * Ctor.
+     * @param lines Lines of the document.
+     */
+    LineComments(final Collection<YamlLine> lines) {
+        this.lines = lines;
+    }
+
+    /**
+     * The comment right above the first line which has the given number
+     * or a greater one.
+     * @param number Line number.
+     * @return Comment, empty if there is none.
+     */
+    String above(final int number) {
+        final String comment;
+        final Index idx = this.index();
+        if(idx.sorted) {
+            comment = idx.above(idx.first(number));
+        } else {
+            Run run = new Run();
+            for(final YamlLine line : this.lines) {
+                if(line.number() < number) {
+                    run = run.add(line);
+                }
+            }
+            comment = run.toString();
+        }
+        return comment;
+    }
+
+    /**
+     * The inline comment of the line(s) with the given number.
+     * @param number Line number.
+     * @return Comment, empty if there is none.
+     */
+    String inline(final int number) {
+        final StringBuilder comment = new StringBuilder();
+        final Index idx = this.index();
+        if(idx.sorted) {
+            for(int pos = idx.first(number);
+                pos < idx.numbers.length && idx.numbers[pos] == number;
+                pos++) {
+                comment.append(idx.inline[pos]).append(System.lineSeparator());
+            }
+        } else {
+            for(final YamlLine line : this.lines) {
+                if(line.number() == number) {
+                    comment.append(line.comment().trim())
+                        .append(System.lineSeparator());
+                }
+            }
+        }
+        return comment.toString().trim();
+    }
+
+    /**
+     * Get the index, building it if needed.
+     * @return Index.
+     */
+    private Index index() {
+        Index idx = this.index;
+        if(idx == null) {
+            idx = new Index(this.lines);
+            this.index = idx;
+        }
+        return idx;
+    }
+
+    /**
+     * Comments indexed by the position of each line.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class Index {
+
+        /**
+         * Numbers of the lines.
+         */
+        private final int[] numbers;
+
+        /**
+         * Inline comment of each line.
+         */
+        private final String[] inline;
+
+        /**
+         * Run of comment-lines above each line. The last element is the
+         * run at the end of the document.
+         */
+        private final Run[] runs;
+
+        /**
+         * Length of the run above each line, when the line was reached.
+         */
+        private final int[] lengths;
+
+        /**
+         * Are the lines ordered by their numbers?
+         */
+        private final boolean sorted;
+
+        /**
+         * Ctor.
+         * @param lines Lines to index.
+         */
+        Index(final Collection<YamlLine> lines) {
+            final int size = lines.size();
+            this.numbers = new int[size];
+            this.inline = new String[size];
+            this.runs = new Run[size + 1];
+            this.lengths = new int[size + 1];
+            boolean ordered = true;
+            Run run = new Run();
+            int pos = 0;
+            for(final YamlLine line : lines) {
+                this.numbers[pos] = line.number();
+                this.inline[pos] = line.comment().trim();
+                this.runs[pos] = run;
+                this.lengths[pos] = run.length();
+                ordered = ordered
+                    && (pos == 0 || this.numbers[pos - 1] <= line.number());
+                run = run.add(line);
+                pos++;
+            }
+            this.runs[size] = run;
+            this.lengths[size] = run.length();
+            this.sorted = ordered;
+        }
+
+        /**
+         * Position of the first line which has the given number or a
+         * greater one.
+         * @param number Line number.
+         * @return Position, the number of lines if there is no such line.
+         */
+        int first(final int number) {
+            int low = 0;
+            int high = this.numbers.length;
+            while(low < high) {
+                final int middle = (low + high) >>> 1;
+                if(this.numbers[middle] < number) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * The comment above the given position.
+         * @param pos Position.
+         * @return Comment.
+         */
+        String above(final int pos) {
+            return this.runs[pos].toString(this.lengths[pos]);
+        }
+    }
+
+    /**
+     * Run of consecutive comment-lines.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class Run {
+
+        /**
+         * Comments of the lines in this run.
+         */
+        private final StringBuilder comments = new StringBuilder();
+
+        /**
+         * Add a line to this run.
+         * @param line Line.
+         * @return This run if the line is a comment-line or is ignored,
+         *  a new, empty run otherwise.
+         */
+        Run add(final YamlLine line) {
+            final String trimmed = line.trimmed();
+            Run run = this;
+            if(!trimmed.startsWith("...") && !trimmed.startsWith("%")
+                && !trimmed.startsWith("!!")) {
+                final String comment = line.comment();
+                if(!"---".equals(trimmed) && !comment.isEmpty()
+                    && trimmed.startsWith("#")) {
+                    this.comments.append(comment.trim())
+                        .append(System.lineSeparator());
+                } else {
+                    run = new Run();
+                }
+            }
+            return run;
+        }
+
+        /**
+         * Length of the comments in this run so far.
+         * @return Int.
+         */
+        int length() {
+            return this.comments.length();
+        }
+
+        /**
+         * The comment made of the first comment-lines of this run.
+         * @param length Length of the comments to take.
+         * @return Comment.
+         */
+        String toString(final int length) {
+            return this.comments.substring(0, length).trim();
+        }
+
+        @Override
+        public String toString() {
+            return this.comments.toString().trim();
+        }
+    }
+}
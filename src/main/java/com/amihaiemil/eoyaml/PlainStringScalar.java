@@ -103,6 +103,11 @@ final class PlainStringScalar extends BaseScalar {
         return this.comment;
     }
 
+    @Override
+    boolean immutable() {
+        return true;
+    }
+
     /**
      * Remove the possible escaping quotes or apostrophes surrounding the
      * given value.
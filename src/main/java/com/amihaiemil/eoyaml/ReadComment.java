@@ -52,8 +52,17 @@ final class ReadComment implements Comment {
      * @param node Node to which it refers.
      */
     ReadComment(final YamlLines lines, final YamlNode node) {
+        this(ReadComment.calculateComments(lines).toString().trim(), node);
+    }
+
+    /**
+     * Constructor.
+     * @param comment Value of this comment, already read.
+     * @param node Node to which it refers.
+     */
+    ReadComment(final String comment, final YamlNode node) {
         this.node = node;
-        this.comment = calculateComments(lines).toString().trim();
+        this.comment = comment;
     }
 
     @Override
@@ -72,7 +81,7 @@ final class ReadComment implements Comment {
      * @param lines The lines to parse into comments.
      * @return Comments.
      */
-    private StringBuilder calculateComments(final YamlLines lines) {
+    private static StringBuilder calculateComments(final YamlLines lines) {
         final StringBuilder tmpComment = new StringBuilder();
         for(final YamlLine line : lines) {
             tmpComment
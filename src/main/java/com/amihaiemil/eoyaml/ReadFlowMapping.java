@@ -27,17 +27,14 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * A read YamlMapping in flow format, where elements are
  * between curly brackets, separated by a comma.
+ * The flow mapping is parsed only once, in a single pass, by
+ * {@link FlowParser}. Nested flow values are built during the same pass.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 8.0.0
@@ -55,14 +52,14 @@ final class ReadFlowMapping extends BaseYamlMapping {
     private final YamlLine previous;
 
     /**
-     * The entries of this flow mapping as String.
+     * This flow mapping folded on a single line.
      */
-    private final StringEntries entries;
+    private final YamlLine folded;
 
     /**
-     * This flow mapping folded on a single line.
+     * The parsed entries of this flow mapping. Null until first needed.
      */
-    private final YamlLine folded;
+    private volatile Map<YamlNode, YamlNode> entries;
 
     /**
      * Ctor.
@@ -90,8 +87,7 @@ final class ReadFlowMapping extends BaseYamlMapping {
                     line -> line.trimmed().startsWith("%"),
                     line -> line.trimmed().startsWith("!!")
                 ),
-                '{',
-                '}'
+                lines.flowSpans()
             ).line(previous.number() < 0 ? 0 : previous.number() + 1),
             previous,
             lines
@@ -108,264 +104,96 @@ final class ReadFlowMapping extends BaseYamlMapping {
     ReadFlowMapping(
         final YamlLine folded, final YamlLine previous, final AllYamlLines all
     ) {
+        this(null, folded, previous, all);
+    }
+
+    /**
+     * Constructor for a flow mapping which has already been parsed
+     * (e.g. a nested flow mapping).
+     * @param entries Parsed entries or null, if they should be parsed
+     *  from the folded line.
+     * @param folded All the YAML lines of this flow mapping,
+     *  folded into a single one.
+     * @param previous Line previous to where this flow mapping starts.
+     * @param all All the lines of the YAML document.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    ReadFlowMapping(
+        final Map<YamlNode, YamlNode> entries,
+        final YamlLine folded,
+        final YamlLine previous,
+        final AllYamlLines all
+    ) {
+        this.entries = entries;
         this.previous = previous;
         this.all = all;
-        this.entries = new StringEntries(folded);
         this.folded = folded;
     }
 
     @Override
     public Set<YamlNode> keys() {
-        final Set<YamlNode> keys = new LinkedHashSet<>();
-        for(final Map.Entry<String, String> entry : this.entries) {
-            keys.add(this.stringToYamlNodeNode(entry.getKey()));
-        }
-        return keys;
+        return this.parsed().keySet();
     }
 
-    //@checkstyle ReturnCount (50 lines)
     @Override
     public YamlNode value(final YamlNode key) {
-        for(final Map.Entry<String, String> entry : this.entries) {
-            final YamlNode entryKey = this.stringToYamlNodeNode(
-                entry.getKey()
-            );
-            if(entryKey.equals(key)) {
-                return this.stringToYamlNodeNode(entry.getValue());
-            }
-        }
-        return null;
+        return this.parsed().get(key);
     }
 
     @Override
-    public Comment comment() {
-        boolean documentComment = this.previous.number() < 0;
-        //@checkstyle LineLength (50 lines)
-        return new ReadComment(
-            new Backwards(
-                new FirstCommentFound(
-                    new Backwards(
-                        new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(documentComment) {
-                                    skip = line.number() >= this.folded.number();
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
-                        )
-                    ),
-                    documentComment
-                )
-            ),
-            this
-        );
+    public Set<Map.Entry<YamlNode, YamlNode>> entries() {
+        return this.parsed().entrySet();
     }
 
-    /**
-     * Turn the string input into a YamlNode.
-     * @param node String Yaml node.
-     * @return YamlNode, never null.
-     */
-    private YamlNode stringToYamlNodeNode(final String node) {
-        final YamlNode yaml;
-        if (node.startsWith("[")) {
-            yaml = new ReadFlowSequence(
-                new RtYamlLine(node, this.folded.number()),
-                this.previous,
-                this.all
-            );
-        } else if (node.startsWith("{")) {
-            yaml = new ReadFlowMapping(
-                new RtYamlLine(node, this.folded.number()),
-                this.previous,
-                this.all
+    @Override
+    public Comment comment() {
+        final Comment comment;
+        if(!this.all.commented()) {
+            comment = new NoComment(this);
+        } else if(this.previous.number() < 0) {
+            //@checkstyle LineLength (50 lines)
+            comment = new ReadComment(
+                new Backwards(
+                    new FirstCommentFound(
+                        new Backwards(
+                            new Skip(
+                                this.all,
+                                line -> line.number() >= this.folded.number(),
+                                line -> line.trimmed().startsWith("..."),
+                                line -> line.trimmed().startsWith("%"),
+                                line -> line.trimmed().startsWith("!!")
+                            )
+                        ),
+                        true
+                    )
+                ),
+                this
             );
         } else {
-            yaml = new PlainStringScalar(node.trim());
+            comment = new ReadComment(
+                this.all.comments().above(this.previous.number()), this
+            );
         }
-        return yaml;
+        return comment;
+    }
+
+    @Override
+    boolean stable() {
+        return true;
     }
 
     /**
-     * This mappings's entries in String format.
-     * @author Mihai Andronache (amihaiemil@gmail.com)
-     * @version $Id$
-     * @since 8.0.0
-     * @checkstyle LineLength (100 lines)
-     * @checkstyle ModifiedControlVariable (100 lines)
-     * @checkstyle ParameterNumber (300 lines)
-     * @checkstyle CyclomaticComplexity (300 lines)
-     * @checkstyle ExecutableStatementCount (300 lines)
+     * The entries of this flow mapping, parsed only once.
+     * @return Ordered, unmodifiable entries.
      */
-    private static final class StringEntries implements Iterable<Map.Entry<String, String>> {
-
-        /**
-         * Line containing all the nodes.
-         */
-        private final YamlLine line;
-
-        /**
-         * Ctor.
-         * @param line Line containing the nodes.
-         */
-        StringEntries(final YamlLine line) {
-            this.line = line;
-        }
-
-        @Override
-        public Iterator<Map.Entry<String, String>> iterator() {
-            final List<String> keys = new ArrayList<>();
-            final List<String> values = new ArrayList<>();
-            final String trimmed = line.trimmed();
-            final String nodes = trimmed.substring(
-                trimmed.indexOf('{') + 1,
-                trimmed.lastIndexOf('}')
-            );
-            StringBuilder nodeBuilder = new StringBuilder();
-            boolean startedQuoteEscape = false;
-            boolean startedApEscape = false;
-            for (int i = 0; i < nodes.length(); i++) {
-                final char currentChar = nodes.charAt(i);
-                if(currentChar == ':' && !startedApEscape && !startedQuoteEscape) {
-                    keys.add(nodeBuilder.toString().trim());
-                    nodeBuilder.setLength(0);
-                    continue;
-                }
-                if (currentChar == ',' && !startedApEscape && !startedQuoteEscape) {
-                    values.add(nodeBuilder.toString().trim());
-                    nodeBuilder.setLength(0);
-                    continue;
-                }
-                if (isEscapeChar(i, '\"', nodes) && !startedApEscape) {
-                    startedQuoteEscape = !startedQuoteEscape;
-                    nodeBuilder.append(currentChar);
-                } else if (isEscapeChar(i, '\'', nodes) && !startedQuoteEscape) {
-                    startedApEscape = !startedApEscape;
-                    nodeBuilder.append(currentChar);
-                } else if ((currentChar == '[' || currentChar == '{') && !(startedApEscape || startedQuoteEscape)) {
-                    String nestedNode = this.readNode(i, nodes, currentChar);
-                    nodeBuilder.append(nestedNode);
-                    i += nestedNode.length() - 1;
-                } else {
-                    nodeBuilder.append(currentChar);
-                }
-            }
-            if (!nodeBuilder.toString().trim().isEmpty()) {
-                values.add(nodeBuilder.toString().trim());
-            }
-            if(keys.size() != values.size()) {
-                throw new IllegalStateException("Invalid flow YamlMapping!");
-            }
-            final Map<String, String> mapping = new LinkedHashMap<>();
-            for(int i=0; i< keys.size(); i++) {
-                mapping.put(keys.get(i), values.get(i));
-            }
-            return mapping.entrySet().iterator();
-        }
-
-        /**
-         * Read/go over a nested node.
-         * @param start Start index.
-         * @param nodes String containing all the nodes.
-         * @param opening Opening bracket ([ or {).
-         * @return Integer index where the read node ends.
-         */
-        private String readNode(
-            final int start,
-            final String nodes,
-            final char opening
-        ) {
-            char closing;
-            if(opening == '{') {
-                closing = '}';
-            } else {
-                closing = ']';
-            }
-            final StringBuilder node = new StringBuilder();
-            node.append(nodes.charAt(start));
-            int nested = 1;
-            int i = start;
-            while(nested != 0) {
-                i++;
-                if(i == nodes.length()) {
-                    throw new IllegalStateException(
-                        "Could not find closing bracket " + closing
-                        + " for node starting at " + start
-                        + " on line " + (this.line.number() + 1)
-                    );
-                }
-                i = goOverEscapedValue(node, i, nodes, '\"');
-                i = goOverEscapedValue(node, i, nodes, '\'');
-                node.append(nodes.charAt(i));
-                if(nodes.charAt(i) == opening){
-                    nested++;
-                } else if(nodes.charAt(i) == closing) {
-                    nested--;
-                }
-            }
-            return node.toString();
-        }
-
-        /**
-         * Go over escaped values (between quotes or apostrophes, usually).
-         * We need to do this because a closing bracket ( ] or } ) should not
-         * be taken into account if it is part of an escaped scalar.
-         * @param node Node to append chars to.
-         * @param start Start index.
-         * @param nodes All the nodes.
-         * @param escapeChar Escape char.
-         * @return Integer index where the escaped value stops.
-         */
-        private int goOverEscapedValue(
-            final StringBuilder node,
-            final int start,
-            final String nodes,
-            final char escapeChar
-        ) {
-            int i = start;
-            if(isEscapeChar(i, escapeChar, nodes)) {
-                node.append(nodes.charAt(i));
-                i++;
-                while(!isEscapeChar(i, escapeChar, nodes)) {
-                    node.append(nodes.charAt(i));
-                    i++;
-                    if(i == nodes.length()) {
-                        throw new IllegalStateException(
-                            "Could not find closing pair (" + escapeChar
-                                + ") for escaped value starting at " + start
-                                + " on line " + (this.line.number() + 1)
-                        );
-                    }
-                }
-            }
-            return i;
-        }
-
-        /**
-         * Does the string contain an escape chartacter a the specified index?
-         * @param start Index.
-         * @param escapeChar Escape character to look for.
-         * @param nodes String containing the characters.
-         * @return True if the escape character is found and it is
-         *  not preceded by a backslash.
-         */
-        private boolean isEscapeChar(
-            final int start, final char escapeChar, final String nodes
-        ) {
-            final boolean result;
-            if (nodes.charAt(start) == escapeChar) {
-                result = start == 0 || nodes.charAt(start - 1) != '\\';
-            } else {
-                result = false;
-            }
-            return result;
+    private Map<YamlNode, YamlNode> parsed() {
+        Map<YamlNode, YamlNode> parsed = this.entries;
+        if(parsed == null) {
+            parsed = new FlowParser(
+                this.folded, this.previous, this.all
+            ).mapping();
+            this.entries = parsed;
         }
+        return parsed;
     }
 }
@@ -27,13 +27,13 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 /**
  * A read YamlSequence in flow format (elements between square brackets).
+ * The flow sequence is parsed only once, in a single pass, by
+ * {@link FlowParser}. Nested flow values are built during the same pass.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 8.0.0
@@ -51,14 +51,14 @@ final class ReadFlowSequence extends BaseYamlSequence {
     private final YamlLine previous;
 
     /**
-     * The entries of this flow sequence as String.
+     * This flow mapping folded on a single line.
      */
-    private final StringNodes entries;
+    private final YamlLine folded;
 
     /**
-     * This flow mapping folded on a single line.
+     * The parsed elements of this flow sequence. Null until first needed.
      */
-    private final YamlLine folded;
+    private volatile List<YamlNode> elements;
 
     /**
      * Ctor.
@@ -86,8 +86,7 @@ final class ReadFlowSequence extends BaseYamlSequence {
                     line -> line.trimmed().startsWith("%"),
                     line -> line.trimmed().startsWith("!!")
                 ),
-                '[',
-                ']'
+                all.flowSpans()
             ).line(previous.number() < 0 ? 0 : previous.number() + 1),
             previous,
             all
@@ -104,232 +103,91 @@ final class ReadFlowSequence extends BaseYamlSequence {
     ReadFlowSequence(
         final YamlLine folded, final YamlLine previous, final AllYamlLines all
     ) {
+        this(null, folded, previous, all);
+    }
+
+    /**
+     * Constructor for a flow sequence which has already been parsed
+     * (e.g. a nested flow sequence).
+     * @param elements Parsed elements or null, if they should be parsed
+     *  from the folded line.
+     * @param folded All the YAML lines of this flow sequence,
+     *  folded into a single one.
+     * @param previous Line previous to where this flow sequence starts.
+     * @param all All the lines of the YAML document.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    ReadFlowSequence(
+        final List<YamlNode> elements,
+        final YamlLine folded,
+        final YamlLine previous,
+        final AllYamlLines all
+    ) {
+        this.elements = elements;
         this.previous = previous;
         this.all = all;
-        this.entries = new StringNodes(folded);
         this.folded = folded;
     }
 
+    @Override
+    boolean fixedElements() {
+        return true;
+    }
+
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> kids = new ArrayList<>();
-        for (final String node : this.entries) {
-            if (node.startsWith("[")) {
-                kids.add(
-                    new ReadFlowSequence(
-                        new RtYamlLine(node, this.folded.number()),
-                        this.previous,
-                        this.all
-                    )
-                );
-            } else if(node.startsWith("{")) {
-                kids.add(
-                    new ReadFlowMapping(
-                        new RtYamlLine(node, this.folded.number()),
-                        this.previous,
-                        this.all
+        return this.elements();
+    }
+
+    @Override
+    public Comment comment() {
+        final Comment comment;
+        if(!this.all.commented()) {
+            comment = new NoComment(this);
+        } else if(this.previous.number() < 0) {
+            //@checkstyle LineLength (50 lines)
+            comment = new ReadComment(
+                new Backwards(
+                    new FirstCommentFound(
+                        new Backwards(
+                            new Skip(
+                                this.all,
+                                line -> line.number() >= this.folded.number(),
+                                line -> line.trimmed().startsWith("..."),
+                                line -> line.trimmed().startsWith("%"),
+                                line -> line.trimmed().startsWith("!!")
+                            )
+                        ),
+                        true
                     )
-                );
-            } else {
-                kids.add(
-                    new PlainStringScalar(node.trim())
-                );
-            }
+                ),
+                this
+            );
+        } else {
+            comment = new ReadComment(
+                this.all.comments().above(this.previous.number()), this
+            );
         }
-        return kids;
+        return comment;
     }
 
     @Override
-    public Comment comment() {
-        boolean documentComment = this.previous.number() < 0;
-        //@checkstyle LineLength (50 lines)
-        return new ReadComment(
-            new Backwards(
-                new FirstCommentFound(
-                    new Backwards(
-                        new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(documentComment) {
-                                    skip = line.number() >= this.folded.number();
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
-                        )
-                    ),
-                    documentComment
-                )
-            ),
-            this
-        );
+    boolean stable() {
+        return true;
     }
 
     /**
-     * This sequence's nodes in String format.
-     * @author Mihai Andronache (amihaiemil@gmail.com)
-     * @version $Id$
-     * @since 8.0.0
-     * @checkstyle LineLength (100 lines)
-     * @checkstyle ModifiedControlVariable (100 lines)
-     * @checkstyle ParameterNumber (300 lines)
-     * @checkstyle CyclomaticComplexity (300 lines)
-     * @checkstyle ExecutableStatementCount (300 lines)
+     * The elements of this flow sequence, parsed only once.
+     * @return Unmodifiable elements.
      */
-    private static final class StringNodes implements Iterable<String> {
-
-        /**
-         * Line containing all the nodes.
-         */
-        private final YamlLine line;
-
-        /**
-         * Ctor.
-         * @param line Line containing the nodes.
-         */
-        StringNodes(final YamlLine line) {
-            this.line = line;
-        }
-
-        @Override
-        public Iterator<String> iterator() {
-            final List<String> values = new ArrayList<>();
-            final String trimmed = line.trimmed();
-            final String nodes = trimmed.substring(
-                trimmed.indexOf('[') + 1,
-                trimmed.lastIndexOf(']')
-            );
-            StringBuilder nodeBuilder = new StringBuilder();
-            boolean startedQuoteEscape = false;
-            boolean startedApEscape = false;
-            for (int i = 0; i < nodes.length(); i++) {
-                final char currentChar = nodes.charAt(i);
-                if (currentChar == ',' && !startedApEscape && !startedQuoteEscape) {
-                    values.add(nodeBuilder.toString().trim());
-                    nodeBuilder.setLength(0);
-                    continue;
-                }
-                if (isEscapeChar(i, '\"', nodes) && !startedApEscape) {
-                    startedQuoteEscape = !startedQuoteEscape;
-                    nodeBuilder.append(currentChar);
-                } else if (isEscapeChar(i, '\'', nodes) && !startedQuoteEscape) {
-                    startedApEscape = !startedApEscape;
-                    nodeBuilder.append(currentChar);
-                } else if ((currentChar == '[' || currentChar == '{') && !(startedApEscape || startedQuoteEscape)) {
-                    String nestedNode = this.readNode(i, nodes, currentChar);
-                    nodeBuilder.append(nestedNode);
-                    i += nestedNode.length() - 1;
-                } else {
-                    nodeBuilder.append(currentChar);
-                }
-            }
-            if (!nodeBuilder.toString().trim().isEmpty()) {
-                values.add(nodeBuilder.toString().trim());
-            }
-            return values.iterator();
-        }
-
-        /**
-         * Read/go over a nested node.
-         * @param start Start index.
-         * @param nodes String containing all the nodes.
-         * @param opening Opening bracket ([ or {).
-         * @return Integer index where the read node ends.
-         */
-        private String readNode(
-            final int start,
-            final String nodes,
-            final char opening
-        ) {
-            char closing;
-            if(opening == '{') {
-                closing = '}';
-            } else {
-                closing = ']';
-            }
-            final StringBuilder node = new StringBuilder();
-            node.append(nodes.charAt(start));
-            int nested = 1;
-            int i = start;
-            while(nested != 0) {
-                i++;
-                if(i == nodes.length()) {
-                    throw new IllegalStateException(
-                        "Could not find closing bracket " + closing
-                        + " for node starting at " + start
-                        + " on line " + (this.line.number() + 1)
-                    );
-                }
-                i = goOverEscapedValue(node, i, nodes, '\"');
-                i = goOverEscapedValue(node, i, nodes, '\'');
-                node.append(nodes.charAt(i));
-                if(nodes.charAt(i) == opening){
-                    nested++;
-                } else if(nodes.charAt(i) == closing) {
-                    nested--;
-                }
-            }
-            return node.toString();
-        }
-
-        /**
-         * Go over escaped values (between quotes or apostrophes, usually).
-         * We need to do this because a closing bracket ( ] or } ) should not
-         * be taken into account if it is part of an escaped scalar.
-         * @param node Node to append chars to.
-         * @param start Start index.
-         * @param nodes All the nodes.
-         * @param escapeChar Escape char.
-         * @return Integer index where the escaped value stops.
-         */
-        private int goOverEscapedValue(
-            final StringBuilder node,
-            final int start,
-            final String nodes,
-            final char escapeChar
-        ) {
-            int i = start;
-            if(isEscapeChar(i, escapeChar, nodes)) {
-                node.append(nodes.charAt(i));
-                i++;
-                while(!isEscapeChar(i, escapeChar, nodes)) {
-                    node.append(nodes.charAt(i));
-                    i++;
-                    if(i == nodes.length()) {
-                        throw new IllegalStateException(
-                            "Could not find closing pair (" + escapeChar
-                          + ") for escaped value starting at " + start
-                          + " on line " + (this.line.number() + 1)
-                        );
-                    }
-                }
-            }
-            return i;
-        }
-
-        /**
-         * Does the string contain an escape chartacter a the specified index?
-         * @param start Index.
-         * @param escapeChar Escape character to look for.
-         * @param nodes String containing the characters.
-         * @return True if the escape character is found and it is
-         *  not preceded by a backslash.
-         */
-        private boolean isEscapeChar(
-            final int start, final char escapeChar, final String nodes
-        ) {
-            final boolean result;
-            if (nodes.charAt(start) == escapeChar) {
-                result = start == 0 || nodes.charAt(start - 1) != '\\';
-            } else {
-                result = false;
-            }
-            return result;
+    private List<YamlNode> elements() {
+        List<YamlNode> parsed = this.elements;
+        if(parsed == null) {
+            parsed = new FlowParser(
+                this.folded, this.previous, this.all
+            ).sequence();
+            this.elements = parsed;
         }
+        return parsed;
     }
 }
@@ -27,8 +27,9 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.stream.StreamSupport;
 
 /**
  * Read Yaml folded block Scalar. This is a Scalar spanning multiple lines.
@@ -70,6 +71,11 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
      */
     private final YamlLines significant;
 
+    /**
+     * Value of this scalar, folded only once, when first needed.
+     */
+    private volatile String value;
+
     /**
      * Ctor.
      * @param lines All lines.
@@ -111,85 +117,146 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
         );
     }
 
-    /**
-     * Checks whether StringBuilder do not end with newline or not.
-     * @param builder StringBuilder
-     * @return Boolean Whether builder do not end with newline char or not
-     */
-    private boolean doNotEndWithNewLine(final StringBuilder builder) {
-        return builder.length() > 0
-                && !builder.toString().endsWith(System.lineSeparator());
-    }
     /**
      * Value of this scalar.
      * @return String
      */
     public String value() {
-        StringBuilder builder = new StringBuilder();
-        final String newLine = System.lineSeparator();
-        for(final YamlLine line: this.significant) {
-            if(line.trimmed().length() == 0 || line.indentation() > 0) {
-                if(this.doNotEndWithNewLine(builder)) {
-                    builder.append(newLine);
-                }
-                int indentation = line.indentation();
-                for(int i = 0; i < indentation; i++) {
-                    builder.append(' ');
-                }
-                builder.append(line.trimmed());
-                builder.append(newLine);
-            } else {
-                if(this.doNotEndWithNewLine(builder)) {
-                    builder.append(' ');
-                }
-                builder.append(line.trimmed());
+        String folded = this.value;
+        if(folded == null) {
+            final StringBuilder builder = new StringBuilder();
+            final Iterator<String> chunks = new Folded(
+                this.significant.iterator()
+            );
+            while(chunks.hasNext()) {
+                builder.append(chunks.next());
             }
+            folded = builder.toString();
+            this.value = folded;
         }
-        return builder.toString();
+        return folded;
+    }
+
+    @Override
+    public Reader reader() {
+        return new ChunksReader(new Folded(this.significant.iterator()));
     }
 
     @Override
     public Comment comment() {
-        //@checkstyle LineLength (50 lines)
-        return new ReadComment(
-            new Backwards(
-                new FirstCommentFound(
-                    new Backwards(
-                        new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(this.previous.number() < 0) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
+        final Comment comment;
+        if(!this.all.commented()) {
+            comment = new NoComment(this);
+        } else {
+            //@checkstyle LineLength (50 lines)
+            comment = new ReadComment(
+                new Backwards(
+                    new FirstCommentFound(
+                        new Backwards(
+                            new Skip(
+                                this.all,
+                                line -> {
+                                    final boolean skip;
+                                    if(this.previous.number() < 0) {
+                                        if(this.significant.iterator().hasNext()) {
+                                            skip = line.number() >= this.significant
+                                                    .iterator().next().number();
+                                        } else {
+                                            skip = false;
+                                        }
                                     } else {
-                                        skip = false;
+                                        skip = line.number() >= this.previous.number();
                                     }
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
-                            line -> line.trimmed().startsWith("---"),
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
+                                    return skip;
+                                },
+                                line -> line.trimmed().startsWith("---"),
+                                line -> line.trimmed().startsWith("..."),
+                                line -> line.trimmed().startsWith("%"),
+                                line -> line.trimmed().startsWith("!!")
+                            )
                         )
                     )
-                )
-            ),
-            this
-        );
+                ),
+                this
+            );
+        }
+        return comment;
     }
 
     @Override
-    List<String> unfolded() {
-        final List<String> unfolded = new ArrayList<>();
-        for(final YamlLine line : this.significant) {
-            unfolded.add(line.toString());
-        }
-        return unfolded;
+    boolean stable() {
+        return true;
+    }
+
+    @Override
+    Iterator<String> unfolded() {
+        return StreamSupport.stream(this.significant.spliterator(), false)
+            .map(YamlLine::toString)
+            .iterator();
     }
 
+    /**
+     * The value of a folded block scalar, computed line by line, as it
+     * is iterated. Lines which are empty or more indented keep their
+     * new lines, the others are folded into a single line.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class Folded implements Iterator<String> {
+
+        /**
+         * Significant YAML lines of the scalar.
+         */
+        private final Iterator<YamlLine> lines;
+
+        /**
+         * Has anything been folded so far?
+         */
+        private boolean started;
+
+        /**
+         * Does the value folded so far end with a new line?
+         */
+        private boolean newLine;
+
+        /**
+         * Ctor.
+         * @param lines Significant YAML lines of the scalar.
+         */
+        Folded(final Iterator<YamlLine> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.lines.hasNext();
+        }
+
+        @Override
+        public String next() {
+            final YamlLine line = this.lines.next();
+            final String separator = System.lineSeparator();
+            final StringBuilder chunk = new StringBuilder();
+            final boolean unfinished = this.started && !this.newLine;
+            if(line.trimmed().length() == 0 || line.indentation() > 0) {
+                if(unfinished) {
+                    chunk.append(separator);
+                }
+                for(int idx = 0; idx < line.indentation(); idx++) {
+                    chunk.append(' ');
+                }
+                chunk.append(line.trimmed()).append(separator);
+                this.newLine = true;
+            } else {
+                if(unfinished) {
+                    chunk.append(' ');
+                }
+                chunk.append(line.trimmed());
+                this.newLine = false;
+            }
+            this.started = true;
+            return chunk.toString();
+        }
+    }
 }
@@ -27,6 +27,9 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.io.Reader;
+import java.util.Iterator;
+
 /**
  * Read Yaml literal block Scalar. This is a Scalar spanning multiple lines.
  * This Scalar's lines will be treated as separate lines and won't be folded
@@ -66,6 +69,11 @@ final class ReadLiteralBlockScalar extends BaseScalar {
      */
     private final YamlLines significant;
 
+    /**
+     * Value of this scalar, assembled only once, when first needed.
+     */
+    private volatile String value;
+
     /**
      * Ctor.
      * @param lines All lines.
@@ -112,48 +120,119 @@ final class ReadLiteralBlockScalar extends BaseScalar {
      * @return String
      */
     public String value() {
-        StringBuilder builder = new StringBuilder();
-        for (final YamlLine yamlLine: this.significant) {
-            int previousIndent = previous.indentation();
-            builder.append(yamlLine.contents(Math.max(previousIndent, 0)));
-            builder.append(System.lineSeparator());
+        String assembled = this.value;
+        if(assembled == null) {
+            final StringBuilder builder = new StringBuilder();
+            final Iterator<String> lines = this.lines();
+            while(lines.hasNext()) {
+                builder.append(lines.next());
+            }
+            assembled = builder.toString();
+            this.value = assembled;
         }
-        return builder.toString();
+        return assembled;
+    }
+
+    @Override
+    public Reader reader() {
+        return new ChunksReader(this.lines());
     }
 
     @Override
     public Comment comment() {
-        return new ReadComment(
-            //@checkstyle LineLength (50 lines)
-            new Backwards(
-                new FirstCommentFound(
-                    new Backwards(
-                        new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(this.previous.number() < 0) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
+        final Comment comment;
+        if(!this.all.commented()) {
+            comment = new NoComment(this);
+        } else {
+            comment = new ReadComment(
+                //@checkstyle LineLength (50 lines)
+                new Backwards(
+                    new FirstCommentFound(
+                        new Backwards(
+                            new Skip(
+                                this.all,
+                                line -> {
+                                    final boolean skip;
+                                    if(this.previous.number() < 0) {
+                                        if(this.significant.iterator().hasNext()) {
+                                            skip = line.number() >= this.significant
+                                                    .iterator().next().number();
+                                        } else {
+                                            skip = false;
+                                        }
                                     } else {
-                                        skip = false;
+                                        skip = line.number() >= this.previous.number();
                                     }
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
-                            line -> line.trimmed().startsWith("---"),
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
+                                    return skip;
+                                },
+                                line -> line.trimmed().startsWith("---"),
+                                line -> line.trimmed().startsWith("..."),
+                                line -> line.trimmed().startsWith("%"),
+                                line -> line.trimmed().startsWith("!!")
+                            )
                         )
                     )
-                )
-            ),
-            this
+                ),
+                this
+            );
+        }
+        return comment;
+    }
+
+    @Override
+    boolean stable() {
+        return true;
+    }
+
+    /**
+     * The lines of this scalar, each one ending with a new line.
+     * @return Iterator of String.
+     */
+    private Iterator<String> lines() {
+        return new Lines(
+            this.significant.iterator(),
+            Math.max(this.previous.indentation(), 0)
         );
     }
 
+    /**
+     * Lines of a literal block scalar, computed one by one, as they
+     * are iterated.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class Lines implements Iterator<String> {
+
+        /**
+         * Significant YAML lines of the scalar.
+         */
+        private final Iterator<YamlLine> lines;
+
+        /**
+         * Indentation of the scalar's key.
+         */
+        private final int indentation;
+
+        /**
+         * Ctor.
+         * @param lines Significant YAML lines of the scalar.
+         * @param indentation Indentation of the scalar's key.
+         */
+        Lines(final Iterator<YamlLine> lines, final int indentation) {
+            this.lines = lines;
+            this.indentation = indentation;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.lines.hasNext();
+        }
+
+        @Override
+        public String next() {
+            return this.lines.next().contents(this.indentation)
+                + System.lineSeparator();
+        }
+    }
 }
@@ -138,7 +138,9 @@ final class ReadPlainScalar extends BaseScalar {
     @Override
     public Comment comment() {
         final Comment comment;
-        if(this.scalar instanceof YamlLine.NullYamlLine) {
+        if(!this.all.commented()) {
+            comment = new NoComment(this);
+        } else if(this.scalar instanceof YamlLine.NullYamlLine) {
             comment = new Concatenated(
                 new BuiltComment(this, ""),
                 new BuiltComment(this, "")
@@ -147,34 +149,21 @@ final class ReadPlainScalar extends BaseScalar {
             final int lineNumber = this.scalar.number();
             comment = new Concatenated(
                 new ReadComment(
-                    new Backwards(
-                        new FirstCommentFound(
-                            new Backwards(
-                                new Skip(
-                                    this.all,
-                                    line -> line.number() >= lineNumber,
-                                    line -> line.trimmed().startsWith("..."),
-                                    line -> line.trimmed().startsWith("%"),
-                                    line -> line.trimmed().startsWith("!!")
-                                )
-                            ),
-                            false
-                        )
-                    ),
-                    this
+                    this.all.comments().above(lineNumber), this
                 ),
                 new ReadComment(
-                    new Skip(
-                        this.all,
-                        line -> line.number() != lineNumber
-                    ),
-                    this
+                    this.all.comments().inline(lineNumber), this
                 )
             );
         }
         return comment;
     }
 
+    @Override
+    boolean stable() {
+        return true;
+    }
+
     /**
      * Remove the possible escaping quotes or apostrophes surrounding the
      * given value.
@@ -29,8 +29,11 @@ package com.amihaiemil.eoyaml;
 
 import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -115,17 +118,16 @@ final class ReadYamlMapping extends BaseYamlMapping {
         this.significant = new SameIndentationLevel(
             new WellIndented(
                 new CollapsedFlowLines(
-                    new CollapsedFlowLines(
-                        new Skip(
-                            lines,
-                            line -> line.number() <= previous.number(),
-                            line -> line.trimmed().startsWith("#"),
-                            line -> line.trimmed().startsWith("---"),
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
-                        ), '{', '}'
-                    ), '[', ']'
+                    new Skip(
+                        lines,
+                        line -> line.number() <= previous.number(),
+                        line -> line.trimmed().startsWith("#"),
+                        line -> line.trimmed().startsWith("---"),
+                        line -> line.trimmed().startsWith("..."),
+                        line -> line.trimmed().startsWith("%"),
+                        line -> line.trimmed().startsWith("!!")
+                    ),
+                    lines.flowSpans()
                 )
             ),
             true
@@ -134,20 +136,108 @@ final class ReadYamlMapping extends BaseYamlMapping {
 
     @Override
     public Set<YamlNode> keys() {
-        final Set<YamlNode> keys = new LinkedHashSet<>();
+        return new LinkedHashSet<>(this.pairs(false).keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * The keys and their values are read in one pass over the lines.
+     */
+    @Override
+    public Set<Map.Entry<YamlNode, YamlNode>> entries() {
+        return Collections.unmodifiableMap(this.pairs(true)).entrySet();
+    }
+
+    @Override
+    public YamlNode value(final YamlNode key) {
+        final YamlNode value;
+        if(key instanceof Scalar) {
+            value = this.valueOfStringKey(((Scalar) key).value());
+        } else {
+            value = this.valueOfNodeKey(key);
+        }
+        return value;
+    }
+
+    @Override
+    public Comment comment() {
+        final Comment comment;
+        if(!this.all.commented()) {
+            comment = new NoComment(this);
+        } else if(this.previous.number() < 0) {
+            //@checkstyle LineLength (50 lines)
+            comment = new ReadComment(
+                new Backwards(
+                    new FirstCommentFound(
+                        new Backwards(
+                            new Skip(
+                                this.all,
+                                line -> {
+                                    final boolean skip;
+                                    if(this.significant.iterator().hasNext()) {
+                                        skip = line.number() >= this.significant
+                                            .iterator().next().number();
+                                    } else {
+                                        skip = false;
+                                    }
+                                    return skip;
+                                },
+                                line -> line.trimmed().startsWith("..."),
+                                line -> line.trimmed().startsWith("%"),
+                                line -> line.trimmed().startsWith("!!")
+                            )
+                        ),
+                        true
+                    )
+                ),
+                this
+            );
+        } else {
+            comment = new ReadComment(
+                this.all.comments().above(this.commentStop), this
+            );
+        }
+        return comment;
+    }
+
+    @Override
+    boolean stable() {
+        return true;
+    }
+
+    /**
+     * Read the keys of this mapping and, optionally, their values, in one
+     * pass over the lines. If a key appears more than once, the first
+     * occurrence is kept.
+     * @param values Read the values too? If false, they are null.
+     * @return Ordered Map of keys and values.
+     * @checkstyle CyclomaticComplexity (100 lines)
+     * @checkstyle ExecutableStatementCount (100 lines)
+     * @checkstyle NestedIfDepth (100 lines)
+     */
+    private Map<YamlNode, YamlNode> pairs(final boolean values) {
+        final Map<YamlNode, YamlNode> pairs = new LinkedHashMap<>();
         YamlLine dashKey = null;
-        for (final YamlLine line : this.significant) {
+        final Iterator<YamlLine> lines = this.significant.iterator();
+        while (lines.hasNext()) {
+            final YamlLine line = lines.next();
             final String trimmed = line.trimmed();
             if(dashKey != null && this.isDashMappingEntry(line)) {
                 break;
             } else if ("?".equals(trimmed)) {
-                keys.add(this.significant.nextYamlNode(line));
+                final YamlNode key = this.significant.nextYamlNode(line);
+                if(values && !pairs.containsKey(key)) {
+                    pairs.put(key, this.complexValue(key, lines));
+                } else {
+                    pairs.putIfAbsent(key, null);
+                }
             } else if(trimmed.indexOf(":") > 0){
                 final Matcher matcher = KEY_PATTERN.matcher(trimmed);
                 if (matcher.matches()) {
                     if(trimmed.startsWith("-")) {
                         dashKey = line;
-                        if(keys.size() > 0) {
+                        if(pairs.size() > 0) {
                             dashKey = null;
                             continue;
                         }
@@ -157,74 +247,41 @@ final class ReadYamlMapping extends BaseYamlMapping {
                         && line.number() != dashKey.number()) {
                         continue;
                     }
-                    //@checkstyle NestedIfDepth (50 lines)
-                    final String key = matcher.group("key");
-                    if (key != null && !key.isEmpty()) {
-                        keys.add(new ReadScalarKey(key, this.all, line));
+                    final String key;
+                    final String written;
+                    if(this.notEmpty(matcher.group("key"))) {
+                        key = matcher.group("key");
+                        written = key;
+                    } else if(this.notEmpty(matcher.group("keyQ"))) {
+                        key = matcher.group("keyQ");
+                        written = "\"" + key + "\"";
+                    } else if(this.notEmpty(matcher.group("keySQ"))) {
+                        key = matcher.group("keySQ");
+                        written = "'" + key + "'";
                     } else {
-                        final String keyQ = matcher.group("keyQ");
-                        if (keyQ != null && !keyQ.isEmpty()) {
-                            keys.add(new ReadScalarKey(keyQ, this.all, line));
-                        } else {
-                            final String keySQ = matcher.group("keySQ");
-                            if (keySQ != null && !keySQ.isEmpty()) {
-                                keys.add(new ReadScalarKey(
-                                    keySQ, this.all, line)
-                                );
-                            }
-                        }
+                        continue;
+                    }
+                    final YamlNode node = new ReadScalarKey(
+                        key, this.all, line
+                    );
+                    if(values && !pairs.containsKey(node)) {
+                        pairs.put(node, this.valueAt(line, written));
+                    } else {
+                        pairs.putIfAbsent(node, null);
                     }
                 }
             }
         }
-        return keys;
-    }
-
-    @Override
-    public YamlNode value(final YamlNode key) {
-        final YamlNode value;
-        if(key instanceof Scalar) {
-            value = this.valueOfStringKey(((Scalar) key).value());
-        } else {
-            value = this.valueOfNodeKey(key);
-        }
-        return value;
+        return pairs;
     }
 
-    @Override
-    public Comment comment() {
-        boolean documentComment = this.previous.number() < 0;
-        //@checkstyle LineLength (50 lines)
-        return new ReadComment(
-            new Backwards(
-                new FirstCommentFound(
-                    new Backwards(
-                        new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(documentComment) {
-                                    if(this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                                .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
-                                } else {
-                                    skip = line.number() >= commentStop;
-                                }
-                                return skip;
-                            },
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
-                        )
-                    ),
-                    documentComment
-                )
-            ),
-            this
-        );
+    /**
+     * Is the given String not null and not empty?
+     * @param text String.
+     * @return True or false.
+     */
+    private boolean notEmpty(final String text) {
+        return text != null && !text.isEmpty();
     }
 
     /**
@@ -243,30 +300,7 @@ final class ReadYamlMapping extends BaseYamlMapping {
         };
         for(final String tryKey : keys) {
             for (final YamlLine line : this.significant) {
-                final String trimmed = line.trimmed();
-                final String relaxedKey = relaxed(tryKey);
-                if(trimmed.matches("^-?[ ]*" + Pattern.quote(relaxedKey) + ":")
-                    || trimmed.matches("^" + Pattern.quote(relaxedKey) + ":[ ]*>$")
-                    || trimmed.matches("^" + Pattern.quote(relaxedKey) + ":[ ]*\\|[+-]?$")
-                ) {
-                    value = this.significant.nextYamlNode(line);
-                } else if(trimmed.matches(Pattern.quote(relaxedKey) + ":\\s*\\{.*$")) {
-                    value = new ReadFlowMapping(
-                        this.getPreviousLine(line),
-                        this.all
-                    );
-                } else if(trimmed.matches(Pattern.quote(relaxedKey) + ":\\s*\\[.*$")) {
-                    value = new ReadFlowSequence(
-                        this.getPreviousLine(line),
-                        this.all
-                    );
-                } else if((trimmed.startsWith(tryKey + ":")
-                        || trimmed.startsWith("- " + tryKey + ":"))
-                        && trimmed.length() > 1
-                ) {
-                    value = new ReadPlainScalar(this.all, line);
-                }
-
+                value = this.valueAt(line, tryKey);
                 if(value != null) {
                     return value;
                 }
@@ -275,6 +309,42 @@ final class ReadYamlMapping extends BaseYamlMapping {
         return null;
     }
 
+    /**
+     * The YamlNode value of the given line, if the line starts with the
+     * given key.
+     * @param line YamlLine.
+     * @param key Key, as written in the line (quoted or not).
+     * @return YamlNode or null if the line does not start with the key.
+     * @checkstyle LineLength (30 lines)
+     */
+    private YamlNode valueAt(final YamlLine line, final String key) {
+        YamlNode value = null;
+        final String trimmed = line.trimmed();
+        final String relaxedKey = relaxed(key);
+        if(trimmed.matches("^-?[ ]*" + Pattern.quote(relaxedKey) + ":")
+            || trimmed.matches("^" + Pattern.quote(relaxedKey) + ":[ ]*>$")
+            || trimmed.matches("^" + Pattern.quote(relaxedKey) + ":[ ]*\\|[+-]?$")
+        ) {
+            value = this.significant.nextYamlNode(line);
+        } else if(trimmed.matches(Pattern.quote(relaxedKey) + ":\\s*\\{.*$")) {
+            value = new ReadFlowMapping(
+                this.getPreviousLine(line),
+                this.all
+            );
+        } else if(trimmed.matches(Pattern.quote(relaxedKey) + ":\\s*\\[.*$")) {
+            value = new ReadFlowSequence(
+                this.getPreviousLine(line),
+                this.all
+            );
+        } else if((trimmed.startsWith(key + ":")
+                || trimmed.startsWith("- " + key + ":"))
+                && trimmed.length() > 1
+        ) {
+            value = new ReadPlainScalar(this.all, line);
+        }
+        return value;
+    }
+
     /**
      * Escape [ and ] for regex matching when key starts with "[ and ends with
      * "].
@@ -311,23 +381,7 @@ final class ReadYamlMapping extends BaseYamlMapping {
             if("?".equals(trimmed)) {
                 final YamlNode keyNode = this.significant.nextYamlNode(line);
                 if(keyNode.equals(key)) {
-                    final YamlLine colonLine = linesIt.next();
-                    if(":".equals(colonLine.trimmed())
-                        || colonLine.trimmed().matches("^\\:[ ]*\\>$")
-                        || colonLine.trimmed().matches("^\\:[ ]*\\|$")
-                    ) {
-                        value = this.significant.nextYamlNode(colonLine);
-                    } else if(colonLine.trimmed().startsWith(":")
-                        && (colonLine.trimmed().length() > 1)
-                    ){
-                        value = new ReadPlainScalar(this.all, colonLine);
-                    } else {
-                        throw new YamlReadingException(
-                            "No value found for existing complex key: "
-                          + System.lineSeparator()
-                          + key.toString()
-                        );
-                    }
+                    value = this.complexValue(key, linesIt);
                     break;
                 }
             }
@@ -335,6 +389,43 @@ final class ReadYamlMapping extends BaseYamlMapping {
         return value;
     }
 
+    /**
+     * The value of a complex key, which is found at the next line (the one
+     * starting with the colon).
+     * @param key Complex key.
+     * @param lines Iterator of lines, positioned right after the key.
+     * @return YamlNode value.
+     * @throws YamlReadingException If the value is missing.
+     */
+    private YamlNode complexValue(
+        final YamlNode key, final Iterator<YamlLine> lines
+    ) {
+        final YamlNode value;
+        final YamlLine colonLine;
+        if(lines.hasNext()) {
+            colonLine = lines.next();
+        } else {
+            colonLine = new YamlLine.NullYamlLine();
+        }
+        if(":".equals(colonLine.trimmed())
+            || colonLine.trimmed().matches("^\\:[ ]*\\>$")
+            || colonLine.trimmed().matches("^\\:[ ]*\\|$")
+        ) {
+            value = this.significant.nextYamlNode(colonLine);
+        } else if(colonLine.trimmed().startsWith(":")
+            && (colonLine.trimmed().length() > 1)
+        ){
+            value = new ReadPlainScalar(this.all, colonLine);
+        } else {
+            throw new YamlReadingException(
+                "No value found for existing complex key: "
+              + System.lineSeparator()
+              + key.toString()
+            );
+        }
+        return value;
+    }
+
     /**
      * Returns true if the line is a dash mapping entry.
      * @param line Line.
@@ -415,26 +506,13 @@ final class ReadYamlMapping extends BaseYamlMapping {
         @Override
         public Comment comment() {
             final Comment comment;
-            if (this.scalarLine instanceof YamlLine.NullYamlLine) {
+            if (!this.all.commented()) {
+                comment = new NoComment(this);
+            } else if (this.scalarLine instanceof YamlLine.NullYamlLine) {
                 comment = new BuiltComment(this, "");
             } else {
-                final int lineNumber = this.scalarLine.number();
                 comment = new ReadComment(
-                    new Backwards(
-                        new FirstCommentFound(
-                            new Backwards(
-                                new Skip(
-                                    this.all,
-                                    line -> line.number() >= lineNumber,
-                                    line -> line.trimmed().startsWith("..."),
-                                    line -> line.trimmed().startsWith("%"),
-                                    line -> line.trimmed().startsWith("!!")
-                                )
-                            ),
-                            false
-                        )
-                    ),
-                    this
+                    this.all.comments().above(this.scalarLine.number()), this
                 );
             }
             return comment;
@@ -27,8 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -85,17 +85,16 @@ final class ReadYamlSequence extends BaseYamlSequence {
         this.significant = new SameIndentationLevel(
             new WellIndented(
                 new CollapsedFlowLines(
-                    new CollapsedFlowLines(
-                        new Skip(
-                            lines,
-                            line -> line.number() <= previous.number(),
-                            line -> line.trimmed().startsWith("#"),
-                            line -> line.trimmed().startsWith("---"),
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
-                        ), '{', '}'
-                    ), '[', ']'
+                    new Skip(
+                        lines,
+                        line -> line.number() <= previous.number(),
+                        line -> line.trimmed().startsWith("#"),
+                        line -> line.trimmed().startsWith("---"),
+                        line -> line.trimmed().startsWith("..."),
+                        line -> line.trimmed().startsWith("%"),
+                        line -> line.trimmed().startsWith("!!")
+                    ),
+                    lines.flowSpans()
                 )
             ),
             false
@@ -107,9 +106,14 @@ final class ReadYamlSequence extends BaseYamlSequence {
      * @checkstyle CyclomaticComplexity (200 lines)
      * @checkstyle ExecutableStatementCount (300 lines)
      */
+    @Override
+    boolean fixedElements() {
+        return true;
+    }
+
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> kids = new LinkedList<>();
+        final List<YamlNode> kids = new ArrayList<>();
         final boolean foldedSequence = this.previous.trimmed().matches(
             "^.*\\|.*\\-$"
         );
@@ -164,38 +168,48 @@ final class ReadYamlSequence extends BaseYamlSequence {
 
     @Override
     public Comment comment() {
-        boolean documentComment = this.previous.number() < 0;
-        //@checkstyle LineLength (50 lines)
-        return new ReadComment(
-            new Backwards(
-                new FirstCommentFound(
-                    new Backwards(
-                        new Skip(
-                            this.all,
-                            line -> {
-                                final boolean skip;
-                                if(documentComment) {
+        final Comment comment;
+        if(!this.all.commented()) {
+            comment = new NoComment(this);
+        } else if(this.previous.number() < 0) {
+            //@checkstyle LineLength (50 lines)
+            comment = new ReadComment(
+                new Backwards(
+                    new FirstCommentFound(
+                        new Backwards(
+                            new Skip(
+                                this.all,
+                                line -> {
+                                    final boolean skip;
                                     if(this.significant.iterator().hasNext()) {
                                         skip = line.number() >= this.significant
-                                                .iterator().next().number();
+                                            .iterator().next().number();
                                     } else {
                                         skip = false;
                                     }
-                                } else {
-                                    skip = line.number() >= this.previous.number();
-                                }
-                                return skip;
-                            },
-                            line -> line.trimmed().startsWith("..."),
-                            line -> line.trimmed().startsWith("%"),
-                            line -> line.trimmed().startsWith("!!")
-                        )
-                    ),
-                    documentComment
-                )
-            ),
-            this
-        );
+                                    return skip;
+                                },
+                                line -> line.trimmed().startsWith("..."),
+                                line -> line.trimmed().startsWith("%"),
+                                line -> line.trimmed().startsWith("!!")
+                            )
+                        ),
+                        true
+                    )
+                ),
+                this
+            );
+        } else {
+            comment = new ReadComment(
+                this.all.comments().above(this.previous.number()), this
+            );
+        }
+        return comment;
+    }
+
+    @Override
+    boolean stable() {
+        return true;
     }
 
     /**
@@ -49,6 +49,11 @@ final class ReadYamlStream extends BaseYamlStream {
      */
     private final YamlLines startMarkers;
 
+    /**
+     * Do the read documents have comments?
+     */
+    private final boolean commented;
+
     /**
      * Constructor.
      * @param lines All YAML lines as they are read from the input.
@@ -67,6 +72,7 @@ final class ReadYamlStream extends BaseYamlStream {
             lines,
             line -> line.trimmed().startsWith("%")
         );
+        this.commented = lines.commented();
     }
 
     @Override
@@ -90,15 +96,19 @@ final class ReadYamlStream extends BaseYamlStream {
      */
     private YamlLines readDocument(final YamlLine start) {
         final List<YamlLine> yamlDocLines = new ArrayList<>();
-        final YamlLines docComment = new Backwards(
-            new FirstCommentFound(
-                new Backwards(
-                    new Skip(this.all, (line) -> line.number() > start.number())
-                ), true
-            )
-        );
-        for (final YamlLine line: docComment){
-            yamlDocLines.add(line);
+        if(this.commented) {
+            final YamlLines docComment = new Backwards(
+                new FirstCommentFound(
+                    new Backwards(
+                        new Skip(
+                            this.all, (line) -> line.number() > start.number()
+                        )
+                    ), true
+                )
+            );
+            for (final YamlLine line: docComment){
+                yamlDocLines.add(line);
+            }
         }
         for(final YamlLine line : this.all) {
             if(line.number() > start.number()) {
@@ -110,7 +120,7 @@ final class ReadYamlStream extends BaseYamlStream {
                 }
             }
         }
-        return new AllYamlLines(yamlDocLines);
+        return new AllYamlLines(yamlDocLines, this.commented);
     }
 
 }
@@ -27,13 +27,18 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
 
 /**
- * YamlMapping reflected from a Java Bean.
+ * YamlMapping reflected from a Java Bean. The keys of each bean class
+ * (property names, getters and comments) are read only once and cached
+ * in a {@link ClassValue}.
  * @checkstyle BooleanExpressionComplexity (300 lines)
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
@@ -41,6 +46,12 @@ import java.util.*;
  */
 final class ReflectedYamlMapping extends BaseYamlMapping {
 
+    /**
+     * Keys of each reflected bean class, by property name, in order.
+     */
+    private static final ClassValue<Map<String, MethodKey>> PROPERTIES =
+        new Properties();
+
     /**
      * Java Bean being reflected.
      */
@@ -83,15 +94,7 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
                 keys.add(this.objectToYamlNode(key));
             }
         } else {
-            final Method[] methods = this.bean.getClass().getDeclaredMethods();
-            for (final Method method : methods) {
-                if (Modifier.isPublic(method.getModifiers())
-                    && method.getParameterCount() == 0
-                    && !method.getReturnType().equals(Void.TYPE)
-                ) {
-                    keys.add(new MethodKey(method));
-                }
-            }
+            keys.addAll(this.properties().values());
         }
         return keys;
     }
@@ -100,23 +103,18 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
     public YamlNode value(final YamlNode key) {
         YamlNode node = null;
         if(this.bean instanceof Map) {
-            for(final Object mapKey : ((Map) bean).keySet()) {
-                if(key.equals(this.objectToYamlNode(mapKey))) {
-                    node = this.objectToYamlNode(((Map) bean).get(mapKey));
-                    break;
-                }
-            }
+            node = this.mapValue((Map<?, ?>) this.bean, key);
         } else {
             if (key instanceof Scalar) {
-                final YamlNode reflectedKey = this.keys().stream().filter(
-                    k -> k.asScalar().value().equals(((Scalar) key).value())
-                ).findFirst().orElse(null);
+                final MethodKey reflectedKey = this.properties().get(
+                    ((Scalar) key).value()
+                );
                 if(reflectedKey == null) {
                     node = null;
                 } else {
                     node = this.objectToYamlNode(
-                        this.invokeMethod(reflectedKey.asScalar().value()),
-                        reflectedKey.asScalar().comment().value()
+                        reflectedKey.invoke(this.bean),
+                        reflectedKey.comment().value()
                     );
                 }
             } else {
@@ -129,6 +127,33 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
         return node;
     }
 
+    @Override
+    public Set<Map.Entry<YamlNode, YamlNode>> entries() {
+        final Map<YamlNode, YamlNode> entries;
+        if(this.bean instanceof Map) {
+            entries = new LinkedHashMap<>(
+                ((Map) this.bean).size() * 4 / 3 + 1
+            );
+            for(final Object entry : ((Map) this.bean).entrySet()) {
+                entries.putIfAbsent(
+                    this.objectToYamlNode(((Map.Entry) entry).getKey()),
+                    this.objectToYamlNode(((Map.Entry) entry).getValue())
+                );
+            }
+        } else {
+            entries = new LinkedHashMap<>();
+            for(final MethodKey key : this.properties().values()) {
+                entries.put(
+                    key,
+                    this.objectToYamlNode(
+                        key.invoke(this.bean), key.comment().value()
+                    )
+                );
+            }
+        }
+        return Collections.unmodifiableMap(entries).entrySet();
+    }
+
     @Override
     public Comment comment() {
         return new Comment() {
@@ -145,31 +170,51 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
     }
 
     /**
-     * Invoke the method represented by given YamlNode key, on the
-     * encapsulated Java Bean.
-     * @param keyName String key in the YamlMapping, representing a method.
-     * @return Object, the result of the method's invocation.
+     * Value of the given key in the reflected Map. If the key is a scalar
+     * which maps back to an original key (the reflected key itself or its
+     * String value), the value is fetched directly with map.get(...).
+     * Otherwise, the map's keys are scanned and compared as YamlNodes.
+     * @param map Reflected Map.
+     * @param key YamlNode key.
+     * @return YamlNode value or null if the key is not present.
      */
-    private Object invokeMethod(final String keyName) {
-        Object value = null;
-        final Method[] methods = this.bean.getClass().getDeclaredMethods();
-        for(final Method method : methods) {
-            if (Modifier.isPublic(method.getModifiers())
-                && method.getParameterCount() == 0
-                && !method.getReturnType().equals(Void.TYPE)
-                && (method.getName().equalsIgnoreCase(keyName)
-                || method.getName().equalsIgnoreCase("get" + keyName))
-            ) {
-                try {
-                    value = method.invoke(this.bean);
-                } catch (final IllegalAccessException iae) {
-                    throw new IllegalStateException(iae);
-                } catch (final InvocationTargetException ite) {
-                    throw new IllegalStateException(ite);
+    private YamlNode mapValue(final Map<?, ?> map, final YamlNode key) {
+        final List<Object> originals = new ArrayList<>(2);
+        if(key instanceof ReflectedYamlScalar) {
+            originals.add(((ReflectedYamlScalar) key).original());
+        }
+        if(key instanceof Scalar) {
+            originals.add(((Scalar) key).value());
+        }
+        YamlNode node = null;
+        for(final Object original : originals) {
+            try {
+                final Object value = map.get(original);
+                if(value != null || map.containsKey(original)) {
+                    node = this.objectToYamlNode(value);
+                    break;
                 }
+            } catch (final ClassCastException | NullPointerException ex) {
+                continue;
             }
         }
-        return value;
+        if(node == null) {
+            for(final Map.Entry<?, ?> entry : map.entrySet()) {
+                if(key.equals(this.objectToYamlNode(entry.getKey()))) {
+                    node = this.objectToYamlNode(entry.getValue());
+                    break;
+                }
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Keys of the reflected bean's class.
+     * @return Keys by property name, in order.
+     */
+    private Map<String, MethodKey> properties() {
+        return PROPERTIES.get(this.bean.getClass());
     }
 
     /**
@@ -191,43 +236,92 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
         return Yaml.createYamlDump(value).dump(comm);
     }
 
+    /**
+     * Reads the keys of a bean class: one per public, parameterless,
+     * non-void declared method. If more methods map to the same key
+     * (e.g. name() and getName()), the first one gives the key's comment
+     * and the last one, in declaration order, is invoked.
+     */
+    private static final class Properties
+        extends ClassValue<Map<String, MethodKey>> {
+
+        @Override
+        protected Map<String, MethodKey> computeValue(final Class<?> type) {
+            final List<Method> getters = new ArrayList<>();
+            for (final Method method : type.getDeclaredMethods()) {
+                if (Modifier.isPublic(method.getModifiers())
+                    && method.getParameterCount() == 0
+                    && !method.getReturnType().equals(Void.TYPE)
+                ) {
+                    getters.add(method);
+                }
+            }
+            final Map<String, MethodKey> keys = new LinkedHashMap<>();
+            for (final Method method : getters) {
+                final String name = MethodKey.name(method);
+                if (!keys.containsKey(name)) {
+                    Method invoked = method;
+                    for (final Method getter : getters) {
+                        if (getter.getName().equalsIgnoreCase(name)
+                            || getter.getName().equalsIgnoreCase("get" + name)
+                        ) {
+                            invoked = getter;
+                        }
+                    }
+                    keys.put(
+                        name,
+                        new MethodKey(name, MethodKey.comment(method), invoked)
+                    );
+                }
+            }
+            return Collections.unmodifiableMap(keys);
+        }
+    }
+
     /**
      * A YAML Scalar which will be the key in this reflected
-     * YamlMapping.
+     * YamlMapping. It is immutable and shared by all the beans of the
+     * same class.
      */
     static class MethodKey extends BaseScalar {
 
         /**
-         * The object's method which is the key in the
-         * reflected YamlMapping.
+         * Name of the key.
+         */
+        private final String name;
+
+        /**
+         * Comment of the key, from the {@link YamlComment} annotation.
+         */
+        private final String text;
+
+        /**
+         * The object's method which gives the value of this key.
          */
         private final Method method;
 
+        /**
+         * Handle of the method, of type (Object)Object, or null if the
+         * method is not accessible from here.
+         */
+        private final MethodHandle getter;
+
         /**
          * Constructor.
-         * @param method Method key.
+         * @param name Name of the key.
+         * @param text Comment of the key.
+         * @param method Method which gives the value of the key.
          */
-        MethodKey(final Method method) {
+        MethodKey(final String name, final String text, final Method method) {
+            this.name = name;
+            this.text = text;
             this.method = method;
+            this.getter = MethodKey.handle(method);
         }
 
         @Override
         public String value() {
-            String keyName;
-            final String methodName = this.method.getName();
-            if(methodName.startsWith("get") && methodName.length() > 3) {
-                final String first = String.valueOf(
-                        this.method.getName().substring(3).charAt(0)
-                );
-                keyName = first.toLowerCase();
-                if(methodName.substring(3).length() > 1) {
-                    keyName = keyName + methodName.substring(4);
-                }
-
-            } else {
-                keyName = this.method.getName();
-            }
-            return keyName;
+            return this.name;
         }
 
         @Override
@@ -240,17 +334,93 @@ final class ReflectedYamlMapping extends BaseYamlMapping {
 
                 @Override
                 public String value() {
-                    final YamlComment yamlComment = MethodKey.this.method
-                        .getAnnotation(YamlComment.class);
-                    final String value;
-                    if(yamlComment == null) {
-                        value = "";
-                    } else {
-                        value = yamlComment.value();
-                    }
-                    return value;
+                    return MethodKey.this.text;
                 }
             };
         }
+
+        /**
+         * Invoke the method of this key on the given bean.
+         * @param bean Java Bean.
+         * @return Object, the result of the method's invocation.
+         * @checkstyle IllegalCatch (30 lines)
+         */
+        Object invoke(final Object bean) {
+            final Object value;
+            try {
+                if (this.getter == null) {
+                    value = this.method.invoke(bean);
+                } else {
+                    value = this.getter.invokeExact(bean);
+                }
+            } catch (final IllegalAccessException iae) {
+                throw new IllegalStateException(iae);
+            } catch (final InvocationTargetException ite) {
+                throw new IllegalStateException(ite);
+            } catch (final Throwable thr) {
+                throw new IllegalStateException(
+                    new InvocationTargetException(thr)
+                );
+            }
+            return value;
+        }
+
+        /**
+         * Name of the key given by a method: getName() gives "name",
+         * any other method gives its own name.
+         * @param method Method.
+         * @return String name.
+         */
+        static String name(final Method method) {
+            String keyName;
+            final String methodName = method.getName();
+            if(methodName.startsWith("get") && methodName.length() > 3) {
+                final String first = String.valueOf(
+                    methodName.substring(3).charAt(0)
+                );
+                keyName = first.toLowerCase();
+                if(methodName.substring(3).length() > 1) {
+                    keyName = keyName + methodName.substring(4);
+                }
+            } else {
+                keyName = methodName;
+            }
+            return keyName;
+        }
+
+        /**
+         * Comment of the key given by a method.
+         * @param method Method.
+         * @return String comment, empty if there is no {@link YamlComment}.
+         */
+        static String comment(final Method method) {
+            final YamlComment yamlComment = method.getAnnotation(
+                YamlComment.class
+            );
+            final String value;
+            if(yamlComment == null) {
+                value = "";
+            } else {
+                value = yamlComment.value();
+            }
+            return value;
+        }
+
+        /**
+         * Handle of the given method, adapted to (Object)Object.
+         * @param method Method.
+         * @return MethodHandle or null, if the method is not accessible.
+         */
+        private static MethodHandle handle(final Method method) {
+            MethodHandle handle;
+            try {
+                handle = MethodHandles.lookup().unreflect(method).asType(
+                    MethodType.methodType(Object.class, Object.class)
+                );
+            } catch (final IllegalAccessException iae) {
+                handle = null;
+            }
+            return handle;
+        }
     }
 }
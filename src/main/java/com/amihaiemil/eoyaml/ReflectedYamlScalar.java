@@ -74,6 +74,14 @@ final class ReflectedYamlScalar extends BaseScalar {
         return value;
     }
 
+    /**
+     * The reflected Java object.
+     * @return Object, may be null.
+     */
+    Object original() {
+        return this.scalar;
+    }
+
     @Override
     public Comment comment() {
         return new Comment() {
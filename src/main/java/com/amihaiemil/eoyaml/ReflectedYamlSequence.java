@@ -80,7 +80,7 @@ final class ReflectedYamlSequence extends BaseYamlSequence {
 
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> values = new ArrayList<>();
+        final List<YamlNode> values = new ArrayList<>(this.sequence.size());
         for(final Object value : this.sequence) {
             values.add(Yaml.createYamlDump(value).dump());
         }
@@ -0,0 +1,297 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * YamlPrinter which renders the elements of a large YamlStream or
+ * block YamlSequence in parallel. The elements are split into chunks,
+ * each chunk is printed into its own buffer on a ForkJoinPool and the
+ * buffers are written to the destination in the original order. At most
+ * window chunks are rendered, or waiting to be written, at any time.<br><br>
+ * Any other node (or a small sequence) is printed by the
+ * {@link RtYamlPrinter}, on the calling thread. The output is the same
+ * as the one of RtYamlPrinter, in all cases.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class RtParallelYamlPrinter implements YamlPrinter {
+
+    /**
+     * Number of elements in a chunk.
+     */
+    private static final int CHUNK = 256;
+
+    /**
+     * Writer where the given YAML will be printed.
+     */
+    private final Writer writer;
+
+    /**
+     * Line separator.
+     */
+    private final String lineSeparator;
+
+    /**
+     * Pool where the chunks are rendered.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Maximum number of chunks held in memory.
+     */
+    private final int window;
+
+    /**
+     * Constructor. The chunks are rendered on the common ForkJoinPool.
+     * @param writer Destination writer.
+     */
+    RtParallelYamlPrinter(final Writer writer) {
+        this(
+            writer,
+            ForkJoinPool.commonPool(),
+            ForkJoinPool.commonPool().getParallelism() * 2
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param writer Destination writer.
+     * @param pool Pool where the chunks are rendered.
+     * @param window Maximum number of chunks held in memory.
+     */
+    RtParallelYamlPrinter(
+        final Writer writer, final ForkJoinPool pool, final int window
+    ) {
+        this(writer, System.lineSeparator(), pool, window);
+    }
+
+    /**
+     * Constructor.
+     * @param writer Destination writer.
+     * @param lineSeparator Line separator.
+     * @param pool Pool where the chunks are rendered.
+     * @param window Maximum number of chunks held in memory.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    RtParallelYamlPrinter(
+        final Writer writer,
+        final String lineSeparator,
+        final ForkJoinPool pool,
+        final int window
+    ) {
+        if(window < 1) {
+            throw new IllegalArgumentException(
+                "The window must hold at least one chunk, but was " + window
+            );
+        }
+        this.writer = writer;
+        this.lineSeparator = lineSeparator;
+        this.pool = pool;
+        this.window = window;
+    }
+
+    @Override
+    public void print(final YamlNode node) throws IOException {
+        final IndentingWriter out = new IndentingWriter(
+            this.writer, 2, this.lineSeparator
+        );
+        final IndentedPrint print = new IndentedPrint(out, false);
+        final List<YamlNode> elements;
+        if(node != null && print.isSplit(node)) {
+            elements = RtParallelYamlPrinter.elements(node);
+        } else {
+            elements = Collections.emptyList();
+        }
+        if(elements.size() > RtParallelYamlPrinter.CHUNK) {
+            try {
+                if (print.comment(node)) {
+                    out.write("---");
+                    out.newLine();
+                }
+                this.chunks(node, elements, out);
+            } finally {
+                this.writer.close();
+            }
+        } else {
+            new RtYamlPrinter(this.writer, this.lineSeparator).print(node);
+        }
+    }
+
+    /**
+     * Render the elements in chunks, on the pool, and write them in order.
+     * @param node YamlStream or block YamlSequence.
+     * @param elements Elements of the node.
+     * @param out Where the chunks are written.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void chunks(
+        final YamlNode node,
+        final List<YamlNode> elements,
+        final IndentingWriter out
+    ) throws IOException {
+        final Deque<ForkJoinTask<String>> pending = new ArrayDeque<>();
+        boolean first = true;
+        try {
+            for(int idx = 0; idx < elements.size();
+                idx += RtParallelYamlPrinter.CHUNK) {
+                if(pending.size() == this.window) {
+                    this.written(pending.poll(), out, first);
+                    first = false;
+                }
+                pending.add(
+                    this.pool.submit(
+                        new Chunk(
+                            node,
+                            elements.subList(
+                                idx,
+                                Math.min(
+                                    idx + RtParallelYamlPrinter.CHUNK,
+                                    elements.size()
+                                )
+                            ),
+                            this.lineSeparator
+                        )
+                    )
+                );
+            }
+            while(!pending.isEmpty()) {
+                this.written(pending.poll(), out, first);
+                first = false;
+            }
+        } finally {
+            for(final ForkJoinTask<String> task : pending) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Wait for a chunk and write it, after the previous one.
+     * @param chunk Rendered chunk.
+     * @param out Where the chunk is written.
+     * @param first Is it the first chunk?
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void written(
+        final ForkJoinTask<String> chunk,
+        final IndentingWriter out,
+        final boolean first
+    ) throws IOException {
+        final String rendered = chunk.join();
+        if(!first) {
+            out.newLine();
+        }
+        out.write(rendered);
+    }
+
+    /**
+     * The elements of a YamlSequence or YamlStream, as a List.
+     * @param node YamlSequence or YamlStream.
+     * @return List of YamlNode.
+     */
+    private static List<YamlNode> elements(final YamlNode node) {
+        final List<YamlNode> elements;
+        if(node instanceof YamlSequence) {
+            elements = ((YamlSequence) node).asList();
+        } else {
+            elements = new ArrayList<>(((YamlStream) node).values());
+        }
+        return elements;
+    }
+
+    /**
+     * Chunk of elements, printed into a String.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    static final class Chunk implements Callable<String> {
+
+        /**
+         * Parent of the elements.
+         */
+        private final YamlNode parent;
+
+        /**
+         * Elements in this chunk.
+         */
+        private final List<YamlNode> elements;
+
+        /**
+         * Line separator.
+         */
+        private final String lineSeparator;
+
+        /**
+         * Ctor.
+         * @param parent Parent of the elements.
+         * @param elements Elements in this chunk.
+         * @param lineSeparator Line separator.
+         */
+        Chunk(
+            final YamlNode parent,
+            final List<YamlNode> elements,
+            final String lineSeparator
+        ) {
+            this.parent = parent;
+            this.elements = elements;
+            this.lineSeparator = lineSeparator;
+        }
+
+        @Override
+        public String call() throws IOException {
+            final StringWriter buffer = new StringWriter();
+            final IndentingWriter out = new IndentingWriter(
+                buffer, 2, this.lineSeparator
+            );
+            final IndentedPrint print = new IndentedPrint(out, false);
+            boolean first = true;
+            for(final YamlNode element : this.elements) {
+                if(!first) {
+                    out.newLine();
+                }
+                first = false;
+                print.element(this.parent, element);
+            }
+            return buffer.toString();
+        }
+    }
+}
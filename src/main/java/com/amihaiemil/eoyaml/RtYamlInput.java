@@ -48,12 +48,27 @@ final class RtYamlInput implements YamlInput {
      */
     private final Reader source;
 
+    /**
+     * Should the comments be read?
+     */
+    private final boolean comments;
+
     /**
      * Ctor.
      * @param source Given source.
      */
     RtYamlInput(final Reader source) {
+        this(source, true);
+    }
+
+    /**
+     * Ctor.
+     * @param source Given source.
+     * @param comments Should the comments be read?
+     */
+    RtYamlInput(final Reader source, final boolean comments) {
         this.source = source;
+        this.comments = comments;
     }
 
     @Override
@@ -139,6 +154,11 @@ final class RtYamlInput implements YamlInput {
         return new ReadLiteralBlockScalar(this.readInput());
     }
 
+    @Override
+    public YamlInput withoutComments() {
+        return new RtYamlInput(this.source, false);
+    }
+
     /**
      * Read the input's lines.
      * @return All read YamlLines
@@ -147,6 +167,7 @@ final class RtYamlInput implements YamlInput {
      */
     private AllYamlLines readInput() throws IOException {
         final List<YamlLine> lines = new ArrayList<>();
+        final CommentLines dropped = new CommentLines(this.comments);
         try (BufferedReader reader = new BufferedReader(source)) {
             String line;
             int number = 0;
@@ -170,6 +191,7 @@ final class RtYamlInput implements YamlInput {
                         seqIndent + "-",
                         number
                     );
+                    dropped.dropped(sequenceLine);
                     lines.add(sequenceLine);
 
                     // 2 spaces offset
@@ -179,19 +201,21 @@ final class RtYamlInput implements YamlInput {
                         keyValueIndent + line.split("-", 2)[1].trim(),
                         ++number
                     );
-                    if (!keyValueLine.toString().trim().isEmpty()) {
+                    if (!keyValueLine.toString().trim().isEmpty()
+                        && !dropped.dropped(keyValueLine)) {
                         lines.add(keyValueLine);
                     }
                 } else {
                     final YamlLine current = new RtYamlLine(line, number);
-                    if (!current.toString().trim().isEmpty()) {
+                    if (!current.toString().trim().isEmpty()
+                        && !dropped.dropped(current)) {
                         lines.add(current);
                     }
                 }
                 number++;
             }
         }
-        return new AllYamlLines(lines);
+        return new AllYamlLines(lines, this.comments);
     }
 
     /**
@@ -215,4 +239,59 @@ final class RtYamlInput implements YamlInput {
             || trimmed.matches("^\\s*-.+-\\s.*$"))
             && !escapedScalar;
     }
+
+    /**
+     * Comment-lines which may be dropped while reading. They are dropped
+     * only if the comments are not read and they are not part of a block
+     * scalar (where they are content, not comments).
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class CommentLines {
+
+        /**
+         * Are the comments read?
+         */
+        private final boolean read;
+
+        /**
+         * Indentation of the line which started the current block scalar,
+         * -1 if we are not in a block scalar.
+         */
+        private int block;
+
+        /**
+         * Ctor.
+         * @param read Are the comments read?
+         */
+        CommentLines(final boolean read) {
+            this.read = read;
+            this.block = -1;
+        }
+
+        /**
+         * Should this line be dropped?
+         * @param line The read line.
+         * @return True or false.
+         */
+        boolean dropped(final YamlLine line) {
+            boolean dropped = false;
+            if(!this.read) {
+                final String trimmed = line.trimmed();
+                if(this.block >= 0 && line.indentation() <= this.block) {
+                    this.block = -1;
+                }
+                if(this.block < 0) {
+                    if(trimmed.startsWith("#")) {
+                        dropped = true;
+                    } else if(trimmed.endsWith(Follows.LITERAL_BLOCK_SCALAR)
+                        || trimmed.endsWith(Follows.FOLDED_BLOCK_SCALAR)) {
+                        this.block = line.indentation();
+                    }
+                }
+            }
+            return dropped;
+        }
+    }
 }
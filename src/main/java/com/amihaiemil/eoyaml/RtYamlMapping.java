@@ -49,6 +49,11 @@ final class RtYamlMapping extends BaseYamlMapping {
     private final Map<YamlNode, YamlNode> mappings =
         new LinkedHashMap<>();
 
+    /**
+     * Are all the keys and values immutable? Computed once.
+     */
+    private volatile Boolean immutable;
+
     /**
      * Ctor.
      * @param entries Entries contained in this mapping.
@@ -82,9 +87,32 @@ final class RtYamlMapping extends BaseYamlMapping {
         return this.mappings.get(key);
     }
 
+    @Override
+    public Set<Map.Entry<YamlNode, YamlNode>> entries() {
+        return Collections.unmodifiableMap(this.mappings).entrySet();
+    }
+
     @Override
     public Comment comment() {
         return this.comment;
     }
 
+    @Override
+    boolean immutable() {
+        Boolean result = this.immutable;
+        if(result == null) {
+            result = true;
+            for(final Map.Entry<YamlNode, YamlNode> entry
+                : this.mappings.entrySet()) {
+                if(!BaseYamlNode.isImmutable(entry.getKey())
+                    || !BaseYamlNode.isImmutable(entry.getValue())) {
+                    result = false;
+                    break;
+                }
+            }
+            this.immutable = result;
+        }
+        return result;
+    }
+
 }
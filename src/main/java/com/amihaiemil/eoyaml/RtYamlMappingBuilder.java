@@ -27,12 +27,14 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.AbstractMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * YamlMappingBuilder implementation. "Rt" stands for "Runtime".
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. The pairs are kept in a
+ * persistent {@link Chain}, so add(...) does not copy the previous pairs.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 1.0.0
@@ -41,22 +43,22 @@ import java.util.Map;
 final class RtYamlMappingBuilder implements YamlMappingBuilder {
 
     /**
-     * Added pairs.
+     * Added pairs, in order.
      */
-    private final Map<YamlNode, YamlNode> pairs;
+    private final Chain<Map.Entry<YamlNode, YamlNode>> pairs;
 
     /**
      * Default ctor.
      */
     RtYamlMappingBuilder() {
-        this(new LinkedHashMap<>());
+        this(new Chain<>());
     }
 
     /**
      * Constructor.
      * @param pairs Pairs used in building the YamlMapping.
      */
-    RtYamlMappingBuilder(final Map<YamlNode, YamlNode> pairs) {
+    RtYamlMappingBuilder(final Chain<Map.Entry<YamlNode, YamlNode>> pairs) {
         this.pairs = pairs;
     }
 
@@ -67,15 +69,20 @@ final class RtYamlMappingBuilder implements YamlMappingBuilder {
                 "The key in YamlMapping cannot be null or empty!"
             );
         }
-        final Map<YamlNode, YamlNode> withAdded = new LinkedHashMap<>();
-        withAdded.putAll(this.pairs);
-        withAdded.put(key, value);
-        return new RtYamlMappingBuilder(withAdded);
+        return new RtYamlMappingBuilder(
+            this.pairs.with(new AbstractMap.SimpleImmutableEntry<>(key, value))
+        );
     }
 
     @Override
     public YamlMapping build(final String comment) {
-        return new RtYamlMapping(this.pairs, comment);
+        final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>(
+            this.pairs.size() * 4 / 3 + 1
+        );
+        for(final Map.Entry<YamlNode, YamlNode> pair : this.pairs) {
+            entries.put(pair.getKey(), pair.getValue());
+        }
+        return new RtYamlMapping(entries, comment);
     }
 
 }
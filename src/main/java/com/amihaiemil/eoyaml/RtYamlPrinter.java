@@ -28,7 +28,6 @@
 package com.amihaiemil.eoyaml;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
 
 /**
@@ -99,56 +98,28 @@ final class RtYamlPrinter implements YamlPrinter {
     @Override
     public void print(final YamlNode node) throws IOException  {
         try {
-            final YamlVisitor<String> visitor = new YamlPrintVisitor(
-                this.lineSeparator, this.alwaysBlock
+            final IndentingWriter out = new IndentingWriter(
+                this.writer, 2, this.lineSeparator
+            );
+            final IndentedPrint print = new IndentedPrint(
+                out, this.alwaysBlock
             );
             if (node.type().equals(Node.SCALAR)) {
-                this.writer.append("---")
-                    .append(this.lineSeparator)
-                    .append(printPossibleComment(node))
-                    .append(node.accept(visitor))
-                    .append(this.lineSeparator)
-                    .append("...");
+                out.write("---");
+                out.newLine();
+                print.comment(node);
+                print.node(node);
+                out.newLine();
+                out.write("...");
             } else {
-                final String comment = printPossibleComment(node);
-                this.writer.append(comment);
-                if (!comment.isEmpty()) {
-                    this.writer.append("---").append(this.lineSeparator);
+                if (print.comment(node)) {
+                    out.write("---");
+                    out.newLine();
                 }
-                this.writer.append(node.accept(visitor));
+                print.node(node);
             }
         } finally {
             this.writer.close();
         }
     }
-
-    /**
-     * Print a comment. Make sure to split the lines if there are more
-     * lines separated by NewLine and also add a '# ' in front of each
-     * line.
-     * @param node Node containing the Comment.
-     * @return Printed comment.
-     */
-    private String printPossibleComment(final YamlNode node) {
-        final StringWriter wrtr = new StringWriter();
-        if(node != null && node.comment() != null) {
-            final Comment tmpComment;
-            if(node.comment() instanceof ScalarComment) {
-                tmpComment = ((ScalarComment) node.comment()).above();
-            } else {
-                tmpComment = node.comment();
-            }
-            final String com = tmpComment.value();
-            if (com.trim().length() != 0) {
-                String[] lines = com.split(this.lineSeparator);
-                for (final String line : lines) {
-                    wrtr
-                        .append("# ")
-                        .append(line)
-                        .append(this.lineSeparator);
-                }
-            }
-        }
-        return wrtr.toString();
-    }
 }
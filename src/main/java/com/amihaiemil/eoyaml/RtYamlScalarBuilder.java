@@ -27,9 +27,16 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.ArrayList;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -87,6 +94,20 @@ final class RtYamlScalarBuilder implements YamlScalarBuilder {
         return new BuiltLiteralBlockScalar(this.lines, comment);
     }
 
+    @Override
+    public Scalar buildFoldedBlockScalar(
+        final Supplier<Reader> content, final String comment
+    ) {
+        return new StreamedFoldedBlockScalar(content, comment);
+    }
+
+    @Override
+    public Scalar buildLiteralBlockScalar(
+        final Supplier<Reader> content, final String comment
+    ) {
+        return new StreamedLiteralBlockScalar(content, comment);
+    }
+
     /**
      * A built folded block Scalar.
      * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -147,10 +168,13 @@ final class RtYamlScalarBuilder implements YamlScalarBuilder {
         }
 
         @Override
-        final List<String> unfolded() {
-            final List<String> unfolded = new ArrayList<>();
-            unfolded.addAll(this.lines);
-            return unfolded;
+        boolean immutable() {
+            return true;
+        }
+
+        @Override
+        final Iterator<String> unfolded() {
+            return Collections.unmodifiableList(this.lines).iterator();
         }
     }
 
@@ -208,5 +232,193 @@ final class RtYamlScalarBuilder implements YamlScalarBuilder {
         public Comment comment() {
             return this.comment;
         }
+
+        @Override
+        boolean immutable() {
+            return true;
+        }
+    }
+
+    /**
+     * A built folded block Scalar, whose content is read from a source
+     * every time it is needed, instead of being held in memory.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    static final class StreamedFoldedBlockScalar extends BaseFoldedScalar {
+
+        /**
+         * Comments referring to this scalar.
+         */
+        private final Comment comment;
+
+        /**
+         * Source of the content.
+         */
+        private final Supplier<Reader> content;
+
+        /**
+         * Ctor.
+         * @param content Source of the content.
+         * @param comment Comment referring to this scalar.
+         */
+        StreamedFoldedBlockScalar(
+            final Supplier<Reader> content, final String comment
+        ) {
+            this.content = content;
+            this.comment = new BuiltComment(this, comment);
+        }
+
+        /**
+         * Return the value of this folded block scalar: the lines
+         * of the content, separated by spaces.
+         * @return String value.
+         */
+        @Override
+        public String value() {
+            final StringBuilder value = new StringBuilder();
+            final Iterator<String> lines = this.unfolded();
+            while(lines.hasNext()) {
+                value.append(lines.next());
+                if(lines.hasNext()) {
+                    value.append(' ');
+                }
+            }
+            return value.toString();
+        }
+
+        @Override
+        public Comment comment() {
+            return this.comment;
+        }
+
+        @Override
+        Iterator<String> unfolded() {
+            return new ReaderLines(this.content.get());
+        }
+    }
+
+    /**
+     * A built literal block Scalar, whose content is read from a source
+     * every time it is needed, instead of being held in memory.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    static final class StreamedLiteralBlockScalar extends BaseScalar {
+
+        /**
+         * Comments referring to this scalar.
+         */
+        private final Comment comment;
+
+        /**
+         * Source of the content.
+         */
+        private final Supplier<Reader> content;
+
+        /**
+         * Ctor.
+         * @param content Source of the content.
+         * @param comment Comment referring to this scalar.
+         */
+        StreamedLiteralBlockScalar(
+            final Supplier<Reader> content, final String comment
+        ) {
+            this.content = content;
+            this.comment = new BuiltComment(this, comment);
+        }
+
+        /**
+         * Return the whole content of this literal scalar. Prefer
+         * {@link #reader()} if the content is big.
+         * @return String value.
+         */
+        @Override
+        public String value() {
+            final StringBuilder value = new StringBuilder();
+            final char[] chunk = new char[8192];
+            try (Reader reader = this.content.get()) {
+                int read = reader.read(chunk);
+                while(read != -1) {
+                    value.append(chunk, 0, read);
+                    read = reader.read(chunk);
+                }
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return value.toString();
+        }
+
+        @Override
+        public Reader reader() {
+            return this.content.get();
+        }
+
+        @Override
+        public Comment comment() {
+            return this.comment;
+        }
+    }
+
+    /**
+     * Lines of a Reader, read one by one, as they are iterated.
+     * The Reader is closed after the last line.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class ReaderLines implements Iterator<String> {
+
+        /**
+         * The Reader.
+         */
+        private final BufferedReader reader;
+
+        /**
+         * Next line, null if there are no more lines.
+         */
+        private String next;
+
+        /**
+         * Ctor.
+         * @param reader The Reader.
+         */
+        ReaderLines(final Reader reader) {
+            this.reader = new BufferedReader(reader);
+            this.next = this.readLine();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public String next() {
+            if(this.next == null) {
+                throw new NoSuchElementException();
+            }
+            final String line = this.next;
+            this.next = this.readLine();
+            return line;
+        }
+
+        /**
+         * Read the next line, closing the Reader if there is none.
+         * @return Line or null.
+         */
+        private String readLine() {
+            try {
+                final String line = this.reader.readLine();
+                if(line == null) {
+                    this.reader.close();
+                }
+                return line;
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
     }
 }
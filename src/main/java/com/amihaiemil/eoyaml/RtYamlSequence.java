@@ -46,7 +46,12 @@ final class RtYamlSequence extends BaseYamlSequence {
     /**
      * Nodes in this sequence.
      */
-    private final List<YamlNode> nodes = new LinkedList<>();
+    private final List<YamlNode> nodes = new ArrayList<>();
+
+    /**
+     * Are all the elements immutable? Computed once.
+     */
+    private volatile Boolean immutable;
 
     /**
      * Ctor.
@@ -69,11 +74,14 @@ final class RtYamlSequence extends BaseYamlSequence {
         this.comment = new BuiltComment(this, comment);
     }
 
+    @Override
+    boolean fixedElements() {
+        return true;
+    }
+
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> children = new LinkedList<>();
-        children.addAll(this.nodes);
-        return children;
+        return new ArrayList<>(this.nodes);
     }
 
     @Override
@@ -81,4 +89,20 @@ final class RtYamlSequence extends BaseYamlSequence {
         return this.comment;
     }
 
+    @Override
+    boolean immutable() {
+        Boolean result = this.immutable;
+        if(result == null) {
+            result = true;
+            for(final YamlNode node : this.nodes) {
+                if(!BaseYamlNode.isImmutable(node)) {
+                    result = false;
+                    break;
+                }
+            }
+            this.immutable = result;
+        }
+        return result;
+    }
+
 }
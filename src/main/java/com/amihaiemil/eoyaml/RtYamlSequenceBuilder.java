@@ -27,12 +27,10 @@
  */
 package com.amihaiemil.eoyaml;
 
-import java.util.LinkedList;
-import java.util.List;
-
 /**
  * YamlSequenceBuilder implementation. "Rt" stands for "Runtime".
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. The nodes are kept in a
+ * persistent {@link Chain}, so add(...) does not copy the previous nodes.
  * @author Salavat.Yalalov (s.yalalov@gmail.com)
  * @version $Id$
  * @since 1.0.0
@@ -41,20 +39,20 @@ final class RtYamlSequenceBuilder implements YamlSequenceBuilder {
     /**
      * Added nodes.
      */
-    private final List<YamlNode> nodes;
+    private final Chain<YamlNode> nodes;
 
     /**
      * Default ctor.
      */
     RtYamlSequenceBuilder() {
-        this(new LinkedList<>());
+        this(new Chain<>());
     }
 
     /**
      * Constructor.
      * @param nodes Nodes used in building the YamlSequence
      */
-    RtYamlSequenceBuilder(final List<YamlNode> nodes) {
+    RtYamlSequenceBuilder(final Chain<YamlNode> nodes) {
         this.nodes = nodes;
     }
 
@@ -65,14 +63,11 @@ final class RtYamlSequenceBuilder implements YamlSequenceBuilder {
 
     @Override
     public YamlSequenceBuilder add(final YamlNode node) {
-        final List<YamlNode> list = new LinkedList<>();
-        list.addAll(this.nodes);
-        list.add(node);
-        return new RtYamlSequenceBuilder(list);
+        return new RtYamlSequenceBuilder(this.nodes.with(node));
     }
 
     @Override
     public YamlSequence build(final String comment) {
-        return new RtYamlSequence(this.nodes, comment);
+        return new RtYamlSequence(this.nodes.toList(), comment);
     }
 }
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Base implementation of YamlStreamPrinter. "Rt" stands for "Runtime".
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class RtYamlStreamPrinter implements YamlStreamPrinter {
+
+    /**
+     * Buffered destination, which keeps track of the indentation.
+     */
+    private final IndentingWriter out;
+
+    /**
+     * Prints the documents.
+     */
+    private final IndentedPrint print;
+
+    /**
+     * Was any document printed already?
+     */
+    private boolean printed;
+
+    /**
+     * Ctor.
+     * @param writer Destination.
+     */
+    RtYamlStreamPrinter(final Writer writer) {
+        this(writer, System.lineSeparator());
+    }
+
+    /**
+     * Ctor.
+     * @param writer Destination.
+     * @param lineSeparator Line separator.
+     */
+    RtYamlStreamPrinter(final Writer writer, final String lineSeparator) {
+        this.out = new IndentingWriter(
+            new BufferedWriter(writer), 2, lineSeparator
+        );
+        this.print = new IndentedPrint(this.out, false);
+    }
+
+    @Override
+    public void print(final YamlNode document) throws IOException {
+        if(this.printed) {
+            this.out.newLine();
+        }
+        this.out.write("---");
+        this.out.newLine();
+        this.print.comment(document);
+        this.print.node(document);
+        this.printed = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+}
@@ -0,0 +1,380 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+
+/**
+ * Base implementation of YamlWriter. "Rt" stands for "Runtime".
+ * Only the open mappings and sequences are kept in memory, as a stack.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class RtYamlWriter implements YamlWriter {
+
+    /**
+     * Line break, in any of the usual forms.
+     */
+    private static final Pattern LINE_BREAK = Pattern.compile("\\r\\n|\\r|\\n");
+
+    /**
+     * Destination, which keeps track of the indentation.
+     */
+    private final IndentingWriter out;
+
+    /**
+     * Mappings and sequences which are open, the innermost on top.
+     */
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    /**
+     * Was anything written on the current line?
+     */
+    private boolean open;
+
+    /**
+     * Was a top-level node written in the current document?
+     */
+    private boolean written;
+
+    /**
+     * Ctor.
+     * @param writer Destination.
+     */
+    RtYamlWriter(final Writer writer) {
+        this(writer, System.lineSeparator());
+    }
+
+    /**
+     * Ctor.
+     * @param writer Destination.
+     * @param lineSeparator Line separator.
+     */
+    RtYamlWriter(final Writer writer, final String lineSeparator) {
+        this.out = new IndentingWriter(writer, 2, lineSeparator);
+    }
+
+    @Override
+    public YamlWriter beginDocument() throws IOException {
+        if(!this.frames.isEmpty()) {
+            throw new IllegalStateException(
+                "A document can only begin at the top level. "
+                + "End the open mappings and sequences first."
+            );
+        }
+        this.line();
+        this.out.write("---");
+        this.open = true;
+        this.written = false;
+        return this;
+    }
+
+    @Override
+    public YamlWriter beginMapping() throws IOException {
+        this.frames.push(new Frame(true, this.place()));
+        return this;
+    }
+
+    @Override
+    public YamlWriter beginSequence() throws IOException {
+        this.frames.push(new Frame(false, this.place()));
+        return this;
+    }
+
+    @Override
+    public YamlWriter key(final String key) throws IOException {
+        if(key == null || key.isEmpty()) {
+            throw new IllegalArgumentException(
+                "The key in YamlMapping cannot be null or empty!"
+            );
+        }
+        final Frame top = this.frames.peek();
+        if(top == null || !top.mapping || top.key) {
+            throw new IllegalStateException(
+                "A key can only be written in a mapping, after the value "
+                + "of the previous key."
+            );
+        }
+        this.start(top);
+        this.line();
+        this.out.write(this.escaped(key));
+        this.open = true;
+        top.key = true;
+        return this;
+    }
+
+    @Override
+    public YamlWriter scalar(
+        final String value, final String comment
+    ) throws IOException {
+        if(comment != null
+            && RtYamlWriter.LINE_BREAK.matcher(comment).find()) {
+            throw new IllegalArgumentException(
+                "An inline comment cannot contain line breaks."
+            );
+        }
+        final String place = this.place();
+        if(Frame.VALUE.equals(place)) {
+            this.out.write(": ");
+        } else {
+            this.line();
+            this.out.write(place);
+        }
+        this.out.write(this.escaped(value));
+        if(comment != null && !comment.isEmpty()) {
+            this.out.write(" # ");
+            this.out.write(comment);
+        }
+        this.open = true;
+        return this;
+    }
+
+    @Override
+    public YamlWriter comment(final String comment) throws IOException {
+        final Frame top = this.frames.peek();
+        if(top != null) {
+            if(top.key) {
+                throw new IllegalStateException(
+                    "A comment cannot be written between a key and its value."
+                );
+            }
+            this.start(top);
+        }
+        for(final String line : RtYamlWriter.LINE_BREAK.split(comment)) {
+            this.line();
+            this.out.write("# ");
+            this.out.write(line);
+            this.open = true;
+        }
+        return this;
+    }
+
+    @Override
+    public YamlWriter end() throws IOException {
+        final Frame frame = this.frames.poll();
+        if(frame == null) {
+            throw new IllegalStateException(
+                "There is no open mapping or sequence to end."
+            );
+        }
+        if(frame.key) {
+            throw new IllegalStateException(
+                "The last key of the mapping has no value."
+            );
+        }
+        if(frame.started) {
+            if(!frame.header.isEmpty()) {
+                this.out.unindent();
+            }
+        } else {
+            if(Frame.VALUE.equals(frame.header)) {
+                this.out.write(": ");
+            } else {
+                this.line();
+                this.out.write(frame.header);
+            }
+            this.out.write(frame.empty());
+            this.open = true;
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if(!this.frames.isEmpty()) {
+                throw new IllegalStateException(
+                    "There are mappings or sequences which were not ended."
+                );
+            }
+        } finally {
+            this.out.close();
+        }
+    }
+
+    /**
+     * Find the place of a new node in the current mapping or sequence.
+     * @return The header of the node: ":" if it is the value of a key,
+     *  "- " if it is an item of a sequence or "" if it is at the top level.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private String place() throws IOException {
+        final Frame top = this.frames.peek();
+        final String place;
+        if(top == null) {
+            if(this.written) {
+                throw new IllegalStateException(
+                    "A document can only have one top-level node. "
+                    + "Begin a new document first."
+                );
+            }
+            this.written = true;
+            place = Frame.TOP;
+        } else if(top.mapping) {
+            if(!top.key) {
+                throw new IllegalStateException(
+                    "A value in a mapping must be preceded by its key."
+                );
+            }
+            top.key = false;
+            place = Frame.VALUE;
+        } else {
+            this.start(top);
+            place = Frame.ITEM;
+        }
+        return place;
+    }
+
+    /**
+     * Start the given mapping or sequence, before its first child: write
+     * its header (if it has one) and increase the indentation.
+     * @param frame Mapping or sequence.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void start(final Frame frame) throws IOException {
+        if(!frame.started) {
+            frame.started = true;
+            if(Frame.VALUE.equals(frame.header)) {
+                this.out.write(":");
+                this.out.indent();
+            } else if(Frame.ITEM.equals(frame.header)) {
+                this.line();
+                this.out.write("-");
+                this.out.indent();
+                this.open = true;
+            }
+        }
+    }
+
+    /**
+     * Move to a new line, unless the current one is still empty.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void line() throws IOException {
+        if(this.open) {
+            this.out.newLine();
+            this.open = false;
+        }
+    }
+
+    /**
+     * Escape the given value, the same way the printer does. Null or
+     * empty values are written as null.
+     * @param value Value.
+     * @return Escaped value.
+     */
+    private String escaped(final String value) {
+        final String escaped;
+        if(value == null || value.isEmpty()) {
+            escaped = "null";
+        } else {
+            escaped = new YamlPrintVisitor.Escaped(
+                new PlainStringScalar(value)
+            ).value();
+        }
+        return escaped;
+    }
+
+    /**
+     * An open mapping or sequence.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class Frame {
+
+        /**
+         * Header of a top level node.
+         */
+        static final String TOP = "";
+
+        /**
+         * Header of the value of a key.
+         */
+        static final String VALUE = ":";
+
+        /**
+         * Header of an item of a sequence.
+         */
+        static final String ITEM = "- ";
+
+        /**
+         * Is it a mapping (or a sequence)?
+         */
+        private final boolean mapping;
+
+        /**
+         * Header: TOP, VALUE or ITEM.
+         */
+        private final String header;
+
+        /**
+         * Was the header written?
+         */
+        private boolean started;
+
+        /**
+         * Was a key written, waiting for its value?
+         */
+        private boolean key;
+
+        /**
+         * Ctor.
+         * @param mapping Is it a mapping (or a sequence)?
+         * @param header Header: TOP, VALUE or ITEM.
+         */
+        Frame(final boolean mapping, final String header) {
+            this.mapping = mapping;
+            this.header = header;
+        }
+
+        /**
+         * How this mapping or sequence is printed, if it is empty.
+         * @return String.
+         */
+        String empty() {
+            final String empty;
+            if(this.mapping) {
+                empty = "{}";
+            } else {
+                empty = "[]";
+            }
+            return empty;
+        }
+    }
+}
@@ -27,6 +27,8 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -50,6 +52,28 @@ public interface Scalar extends YamlNode {
      */
     String value();
 
+    /**
+     * Read the value of this scalar. Block scalars read from a YAML
+     * document stream their content line by line, without assembling
+     * it in a String first, so this is the way to go for big values
+     * (embedded certificates, scripts, base64 blobs etc).
+     * @return Reader of the value. If the value is null, the Reader
+     *  is empty.
+     * @throws IllegalStateException In the case of reading YAML,
+     *  this exception is thrown if the Scalar isn't found where it's
+     *  supposed to be.
+     */
+    default Reader reader() {
+        final String value = this.value();
+        final Reader reader;
+        if(value == null) {
+            reader = new StringReader("");
+        } else {
+            reader = new StringReader(value);
+        }
+        return reader;
+    }
+
     @Override
     default List<YamlNode> children() {
         return new ArrayList<>();
@@ -27,6 +27,7 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -75,6 +76,11 @@ public final class StrictYamlMapping extends BaseYamlMapping {
         return found;
     }
 
+    @Override
+    public Set<Map.Entry<YamlNode, YamlNode>> entries() {
+        return this.decorated.entries();
+    }
+
     @Override
     public Comment comment() {
         return this.decorated.comment();
@@ -0,0 +1,500 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Typed value of a Scalar, resolved only once, following the YAML 1.2 core
+ * schema (null, bool, int and float), plus timestamps. Numbers are kept as
+ * primitives, so they are not parsed again nor boxed every time they are
+ * read.<br><br>
+ * The cached numbers are only used for texts which the usual Java methods
+ * (e.g. Integer.parseInt(...)) accept as well. Otherwise, e.g. for
+ * hexadecimal or octal integers and for .inf or .nan, the original text is
+ * parsed with the usual Java method, so the result (or the exception) of
+ * the typed accessors is the same as before.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class TypedValue {
+
+    /**
+     * Decimal integer.
+     */
+    private static final Pattern DECIMAL = Pattern.compile("[-+]?[0-9]+");
+
+    /**
+     * Octal integer.
+     */
+    private static final Pattern OCTAL = Pattern.compile("0o[0-7]+");
+
+    /**
+     * Hexadecimal integer.
+     */
+    private static final Pattern HEXADECIMAL = Pattern.compile(
+        "0x[0-9a-fA-F]+"
+    );
+
+    /**
+     * Floating point number.
+     */
+    private static final Pattern FLOAT = Pattern.compile(
+        "[-+]?(\\.[0-9]+|[0-9]+(\\.[0-9]*)?)([eE][-+]?[0-9]+)?"
+    );
+
+    /**
+     * Infinity.
+     */
+    private static final Pattern INFINITY = Pattern.compile(
+        "[-+]?\\.(inf|Inf|INF)"
+    );
+
+    /**
+     * Not a number.
+     */
+    private static final Pattern NAN = Pattern.compile("\\.(nan|NaN|NAN)");
+
+    /**
+     * Date or date and time.
+     */
+    private static final Pattern TIMESTAMP = Pattern.compile(
+        "[0-9]{4}-[0-9]{2}-[0-9]{2}(T.+)?"
+    );
+
+    /**
+     * Original text.
+     */
+    private final String text;
+
+    /**
+     * Resolved tag.
+     */
+    private final Tag tag;
+
+    /**
+     * Is the text a number in a form which the Java parse methods accept
+     * too (decimal, not hexadecimal, octal, infinity or nan)?
+     */
+    private final boolean decimal;
+
+    /**
+     * Value as long, if the tag is int.
+     */
+    private final long integer;
+
+    /**
+     * Value as double, if the tag is int or float.
+     */
+    private final double real;
+
+    /**
+     * Value as float, if the tag is int or float.
+     */
+    private final float single;
+
+    /**
+     * Value as LocalDate or LocalDateTime, if the tag is timestamp.
+     */
+    private final Object temporal;
+
+    /**
+     * Ctor.
+     * @param text Text to resolve.
+     */
+    TypedValue(final String text) {
+        this.text = text;
+        this.tag = TypedValue.resolve(text);
+        this.decimal = (this.tag == Tag.INT || this.tag == Tag.FLOAT)
+            && TypedValue.FLOAT.matcher(text).matches();
+        if(this.tag == Tag.INT) {
+            this.integer = TypedValue.parseInteger(text);
+            this.real = this.integer;
+            this.single = this.integer;
+        } else if(this.tag == Tag.FLOAT) {
+            this.integer = 0L;
+            this.real = TypedValue.parseReal(text);
+            this.single = TypedValue.parseSingle(text);
+        } else {
+            this.integer = 0L;
+            this.real = 0.0;
+            this.single = 0.0f;
+        }
+        if(this.tag == Tag.TIMESTAMP) {
+            this.temporal = TypedValue.parseTemporal(text);
+        } else {
+            this.temporal = null;
+        }
+    }
+
+    /**
+     * Typed value of the given Scalar. It is cached, if the Scalar
+     * extends {@link BaseScalar}.
+     * @param scalar Scalar.
+     * @return TypedValue.
+     */
+    static TypedValue resolved(final Scalar scalar) {
+        final TypedValue typed;
+        if(scalar instanceof BaseScalar) {
+            typed = ((BaseScalar) scalar).typed();
+        } else {
+            typed = new TypedValue(scalar.value());
+        }
+        return typed;
+    }
+
+    /**
+     * Typed value of the given node, which should be a non-empty Scalar
+     * holding a number.
+     * @param node YamlNode.
+     * @return TypedValue.
+     * @throws NumberFormatException If the node is not a Scalar or it
+     *  is empty.
+     */
+    static TypedValue number(final YamlNode node) {
+        if(!(node instanceof Scalar)) {
+            throw new NumberFormatException();
+        }
+        final String value = ((Scalar) node).value();
+        if(value == null || value.isEmpty()) {
+            throw new NumberFormatException();
+        }
+        return TypedValue.resolved((Scalar) node);
+    }
+
+    /**
+     * Is this value null, as per the YAML core schema?
+     * @return True or false.
+     */
+    boolean isNull() {
+        return this.tag == Tag.NULL;
+    }
+
+    /**
+     * The value as int.
+     * @return Int.
+     * @throws NumberFormatException If it is not an int.
+     */
+    int integer() {
+        final int result;
+        if(this.tag == Tag.INT && this.decimal
+            && this.integer == (int) this.integer) {
+            result = (int) this.integer;
+        } else {
+            result = Integer.parseInt(this.text);
+        }
+        return result;
+    }
+
+    /**
+     * The value as long.
+     * @return Long.
+     * @throws NumberFormatException If it is not a long.
+     */
+    long longNumber() {
+        final long result;
+        if(this.tag == Tag.INT && this.decimal) {
+            result = this.integer;
+        } else {
+            result = Long.parseLong(this.text);
+        }
+        return result;
+    }
+
+    /**
+     * The value as double.
+     * @return Double.
+     * @throws NumberFormatException If it is not a double.
+     */
+    double doubleNumber() {
+        final double result;
+        if(this.decimal) {
+            result = this.real;
+        } else {
+            result = Double.parseDouble(this.text);
+        }
+        return result;
+    }
+
+    /**
+     * The value as float.
+     * @return Float.
+     * @throws NumberFormatException If it is not a float.
+     */
+    float floatNumber() {
+        final float result;
+        if(this.decimal) {
+            result = this.single;
+        } else {
+            result = Float.parseFloat(this.text);
+        }
+        return result;
+    }
+
+    /**
+     * The value as boolean: true if the text is equal, ignoring case,
+     * to "true".
+     * @return Boolean.
+     */
+    boolean bool() {
+        final boolean result;
+        if(this.tag == Tag.BOOL) {
+            result = this.text.charAt(0) == 't' || this.text.charAt(0) == 'T';
+        } else {
+            result = Boolean.parseBoolean(this.text);
+        }
+        return result;
+    }
+
+    /**
+     * The value as LocalDate.
+     * @return LocalDate.
+     * @throws DateTimeParseException If it is not a date.
+     */
+    LocalDate date() {
+        final LocalDate result;
+        if(this.temporal instanceof LocalDate) {
+            result = (LocalDate) this.temporal;
+        } else {
+            result = LocalDate.parse(this.text);
+        }
+        return result;
+    }
+
+    /**
+     * The value as LocalDateTime.
+     * @return LocalDateTime.
+     * @throws DateTimeParseException If it is not a date and time.
+     */
+    LocalDateTime dateTime() {
+        final LocalDateTime result;
+        if(this.temporal instanceof LocalDateTime) {
+            result = (LocalDateTime) this.temporal;
+        } else {
+            result = LocalDateTime.parse(this.text);
+        }
+        return result;
+    }
+
+    /**
+     * Resolve the tag of the given text.
+     * @param text Text.
+     * @return Tag.
+     * @checkstyle CyclomaticComplexity (50 lines)
+     */
+    private static Tag resolve(final String text) {
+        final Tag tag;
+        if(text == null || text.isEmpty() || "~".equals(text)) {
+            tag = Tag.NULL;
+        } else if("null".equalsIgnoreCase(text)) {
+            tag = TypedValue.ifCapitalized(text, Tag.NULL);
+        } else if("true".equalsIgnoreCase(text)
+            || "false".equalsIgnoreCase(text)) {
+            tag = TypedValue.ifCapitalized(text, Tag.BOOL);
+        } else if(TypedValue.DECIMAL.matcher(text).matches()
+            || TypedValue.OCTAL.matcher(text).matches()
+            || TypedValue.HEXADECIMAL.matcher(text).matches()) {
+            tag = TypedValue.intOrFloat(text);
+        } else if(TypedValue.FLOAT.matcher(text).matches()
+            || TypedValue.INFINITY.matcher(text).matches()
+            || TypedValue.NAN.matcher(text).matches()) {
+            tag = Tag.FLOAT;
+        } else if(TypedValue.TIMESTAMP.matcher(text).matches()
+            && TypedValue.parseTemporal(text) != null) {
+            tag = Tag.TIMESTAMP;
+        } else {
+            tag = Tag.STR;
+        }
+        return tag;
+    }
+
+    /**
+     * The core schema accepts null and bool words only in lowercase,
+     * capitalized or uppercase (e.g. true, True or TRUE, but not tRUE).
+     * @param text Text.
+     * @param tag Tag of the text, if it is written accordingly.
+     * @return The given tag or str.
+     */
+    private static Tag ifCapitalized(final String text, final Tag tag) {
+        final Tag result;
+        final String rest = text.substring(1);
+        if(rest.equals(rest.toLowerCase(Locale.ENGLISH))
+            || text.equals(text.toUpperCase(Locale.ENGLISH))) {
+            result = tag;
+        } else {
+            result = Tag.STR;
+        }
+        return result;
+    }
+
+    /**
+     * Integers which do not fit in a long are kept as floats.
+     * @param text Text of an integer.
+     * @return Tag int or float.
+     */
+    private static Tag intOrFloat(final String text) {
+        Tag tag;
+        try {
+            TypedValue.parseInteger(text);
+            tag = Tag.INT;
+        } catch (final NumberFormatException ex) {
+            tag = Tag.FLOAT;
+        }
+        return tag;
+    }
+
+    /**
+     * Parse an integer: decimal, octal (0o) or hexadecimal (0x).
+     * @param text Text.
+     * @return Long.
+     */
+    private static long parseInteger(final String text) {
+        final long result;
+        if(text.startsWith("0o")) {
+            result = Long.parseLong(text.substring(2), 8);
+        } else if(text.startsWith("0x")) {
+            result = Long.parseLong(text.substring(2), 16);
+        } else {
+            result = Long.parseLong(text);
+        }
+        return result;
+    }
+
+    /**
+     * Parse a float as double.
+     * @param text Text.
+     * @return Double.
+     */
+    private static double parseReal(final String text) {
+        final double result;
+        if(TypedValue.NAN.matcher(text).matches()) {
+            result = Double.NaN;
+        } else if(TypedValue.INFINITY.matcher(text).matches()) {
+            if(text.charAt(0) == '-') {
+                result = Double.NEGATIVE_INFINITY;
+            } else {
+                result = Double.POSITIVE_INFINITY;
+            }
+        } else if(text.startsWith("0o") || text.startsWith("0x")) {
+            result = new BigInteger(
+                text.substring(2), TypedValue.radix(text)
+            ).doubleValue();
+        } else {
+            result = Double.parseDouble(text);
+        }
+        return result;
+    }
+
+    /**
+     * Parse a float.
+     * @param text Text.
+     * @return Float.
+     */
+    private static float parseSingle(final String text) {
+        final float result;
+        if(TypedValue.FLOAT.matcher(text).matches()) {
+            result = Float.parseFloat(text);
+        } else {
+            result = (float) TypedValue.parseReal(text);
+        }
+        return result;
+    }
+
+    /**
+     * Radix of an octal or hexadecimal integer.
+     * @param text Text.
+     * @return Radix 8 or 16.
+     */
+    private static int radix(final String text) {
+        final int radix;
+        if(text.startsWith("0o")) {
+            radix = 8;
+        } else {
+            radix = 16;
+        }
+        return radix;
+    }
+
+    /**
+     * Parse a date or a date and time.
+     * @param text Text.
+     * @return LocalDate, LocalDateTime or null if it cannot be parsed.
+     */
+    private static Object parseTemporal(final String text) {
+        Object temporal;
+        try {
+            if(text.indexOf('T') > 0) {
+                temporal = LocalDateTime.parse(text);
+            } else {
+                temporal = LocalDate.parse(text);
+            }
+        } catch (final DateTimeParseException ex) {
+            temporal = null;
+        }
+        return temporal;
+    }
+
+    /**
+     * Tags of the YAML core schema, plus timestamp.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private enum Tag {
+        /**
+         * Null.
+         */
+        NULL,
+        /**
+         * Boolean.
+         */
+        BOOL,
+        /**
+         * Integer.
+         */
+        INT,
+        /**
+         * Floating point number.
+         */
+        FLOAT,
+        /**
+         * Date or date and time.
+         */
+        TIMESTAMP,
+        /**
+         * String.
+         */
+        STR
+    }
+}
@@ -0,0 +1,318 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writer which encodes chars as UTF-8 bytes straight into a ByteBuffer,
+ * and drains the buffer to a channel (or OutputStream) whenever it is full.
+ * ASCII chars, which make up indentation, keys and most values, take a
+ * fast path of one byte each. Lone surrogates are written as '?',
+ * like the JDK's UTF-8 encoder does.<br><br>
+ * The channel must be in blocking mode: the buffer is drained by writing
+ * until it is empty, so a non-blocking channel which accepts no bytes
+ * would never be drained.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class Utf8Writer extends Writer {
+
+    /**
+     * Default capacity of the buffer.
+     */
+    private static final int CAPACITY = 8192;
+
+    /**
+     * Destination.
+     */
+    private final WritableByteChannel channel;
+
+    /**
+     * Buffer of encoded bytes.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * High surrogate waiting for its pair, or 0 if there is none.
+     */
+    private char high;
+
+    /**
+     * Ctor.
+     * @param out Destination OutputStream.
+     */
+    Utf8Writer(final OutputStream out) {
+        this(new StreamChannel(out));
+    }
+
+    /**
+     * Ctor.
+     * @param channel Destination channel, in blocking mode.
+     */
+    Utf8Writer(final WritableByteChannel channel) {
+        this(channel, ByteBuffer.allocate(Utf8Writer.CAPACITY));
+    }
+
+    /**
+     * Ctor. The given buffer is cleared and reused for all the writing,
+     * so it can be reused across printers too.
+     * @param channel Destination channel, in blocking mode.
+     * @param buffer Buffer for the encoded bytes. It must have room for
+     *  at least one encoded char (4 bytes).
+     * @throws IllegalArgumentException If the buffer is smaller than 4
+     *  bytes or the channel is a non-blocking SelectableChannel.
+     */
+    Utf8Writer(final WritableByteChannel channel, final ByteBuffer buffer) {
+        if(buffer.capacity() < 4) {
+            throw new IllegalArgumentException(
+                "The buffer must have a capacity of at least 4 bytes, "
+                + "but it has " + buffer.capacity() + "."
+            );
+        }
+        if(channel instanceof SelectableChannel
+            && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalArgumentException(
+                "The channel must be in blocking mode."
+            );
+        }
+        this.channel = channel;
+        this.buffer = buffer;
+        this.buffer.clear();
+    }
+
+    @Override
+    public void write(final int chr) throws IOException {
+        this.encode((char) chr);
+    }
+
+    @Override
+    public void write(
+        final char[] cbuf, final int off, final int len
+    ) throws IOException {
+        for(int idx = off; idx < off + len; ++idx) {
+            final char chr = cbuf[idx];
+            if(chr < 0x80 && this.high == 0 && this.buffer.hasRemaining()) {
+                this.buffer.put((byte) chr);
+            } else {
+                this.encode(chr);
+            }
+        }
+    }
+
+    @Override
+    public void write(
+        final String str, final int off, final int len
+    ) throws IOException {
+        for(int idx = off; idx < off + len; ++idx) {
+            final char chr = str.charAt(idx);
+            if(chr < 0x80 && this.high == 0 && this.buffer.hasRemaining()) {
+                this.buffer.put((byte) chr);
+            } else {
+                this.encode(chr);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.drain();
+        if(this.channel instanceof Flushable) {
+            ((Flushable) this.channel).flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if(this.high != 0) {
+            this.high = 0;
+            this.ascii('?');
+        }
+        try {
+            this.flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Encode one char.
+     * @param chr Char.
+     * @throws IOException If the buffer cannot be drained.
+     */
+    private void encode(final char chr) throws IOException {
+        if(this.high != 0 && Character.isLowSurrogate(chr)) {
+            this.supplementary(Character.toCodePoint(this.high, chr));
+            this.high = 0;
+        } else {
+            if(this.high != 0) {
+                this.high = 0;
+                this.ascii('?');
+            }
+            this.single(chr);
+        }
+    }
+
+    /**
+     * Encode a char which is not the low surrogate of a pending pair.
+     * @param chr Char.
+     * @throws IOException If the buffer cannot be drained.
+     */
+    private void single(final char chr) throws IOException {
+        if(chr < 0x80) {
+            this.ascii(chr);
+        } else if(chr < 0x800) {
+            this.room(2);
+            this.buffer.put((byte) (0xC0 | chr >> 6));
+            this.buffer.put((byte) (0x80 | chr & 0x3F));
+        } else if(Character.isHighSurrogate(chr)) {
+            this.high = chr;
+        } else if(Character.isLowSurrogate(chr)) {
+            this.ascii('?');
+        } else {
+            this.room(3);
+            this.buffer.put((byte) (0xE0 | chr >> 12));
+            this.buffer.put((byte) (0x80 | chr >> 6 & 0x3F));
+            this.buffer.put((byte) (0x80 | chr & 0x3F));
+        }
+    }
+
+    /**
+     * Write an ASCII char, as one byte.
+     * @param chr Char.
+     * @throws IOException If the buffer cannot be drained.
+     */
+    private void ascii(final char chr) throws IOException {
+        this.room(1);
+        this.buffer.put((byte) chr);
+    }
+
+    /**
+     * Write a code point outside the BMP, as four bytes.
+     * @param point Code point.
+     * @throws IOException If the buffer cannot be drained.
+     */
+    private void supplementary(final int point) throws IOException {
+        this.room(4);
+        this.buffer.put((byte) (0xF0 | point >> 18));
+        this.buffer.put((byte) (0x80 | point >> 12 & 0x3F));
+        this.buffer.put((byte) (0x80 | point >> 6 & 0x3F));
+        this.buffer.put((byte) (0x80 | point & 0x3F));
+    }
+
+    /**
+     * Make sure the buffer has room for the given number of bytes.
+     * @param bytes Number of bytes.
+     * @throws IOException If the buffer cannot be drained.
+     */
+    private void room(final int bytes) throws IOException {
+        if(this.buffer.remaining() < bytes) {
+            this.drain();
+        }
+    }
+
+    /**
+     * Write the buffered bytes to the channel and clear the buffer.
+     * @throws IOException If the bytes cannot be written.
+     */
+    private void drain() throws IOException {
+        this.buffer.flip();
+        while(this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * OutputStream as a WritableByteChannel, which writes the backing
+     * array of heap buffers without copying it.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    static final class StreamChannel implements WritableByteChannel, Flushable {
+
+        /**
+         * Destination.
+         */
+        private final OutputStream out;
+
+        /**
+         * Is this channel open?
+         */
+        private boolean open;
+
+        /**
+         * Ctor.
+         * @param out Destination.
+         */
+        StreamChannel(final OutputStream out) {
+            this.out = out;
+            this.open = true;
+        }
+
+        @Override
+        public int write(final ByteBuffer src) throws IOException {
+            final int len = src.remaining();
+            if(src.hasArray()) {
+                this.out.write(
+                    src.array(), src.arrayOffset() + src.position(), len
+                );
+                src.position(src.limit());
+            } else {
+                final byte[] bytes = new byte[len];
+                src.get(bytes);
+                this.out.write(bytes);
+            }
+            return len;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return this.open;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.open = false;
+            this.out.close();
+        }
+    }
+}
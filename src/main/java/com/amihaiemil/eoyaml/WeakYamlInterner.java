@@ -0,0 +1,377 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import com.amihaiemil.eoyaml.RtYamlScalarBuilder.BuiltFoldedBlockScalar;
+import com.amihaiemil.eoyaml.RtYamlScalarBuilder.BuiltLiteralBlockScalar;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * YamlInterner backed by a concurrent table of weak references: a shared
+ * instance is dropped from the table once nobody else uses it.<br><br>
+ * The nodes are interned bottom-up, so the children of an interned node are
+ * interned already and two composite nodes are identical if they have the
+ * same comment and the very same child instances. The table is keyed by a
+ * hash of the scalar value or of the children identities, therefore a lookup
+ * costs O(children) and never walks the whole subtree.<br><br>
+ * Block mappings and sequences which are not built by this library (e.g.
+ * read or reflected ones) are materialised into built nodes and plain
+ * scalars into {@link PlainStringScalar}. Flow or JSON collections and
+ * block scalars which are not built are kept as they are, so they are
+ * still printed in their own style.
+ * This class is thread-safe.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+final class WeakYamlInterner implements YamlInterner {
+
+    /**
+     * Shared instances.
+     */
+    private final Map<Shared, Shared> table;
+
+    /**
+     * Queue of the shared instances which have been garbage collected.
+     */
+    private final ReferenceQueue<YamlNode> collected;
+
+    /**
+     * Ctor.
+     */
+    WeakYamlInterner() {
+        this.table = new ConcurrentHashMap<>();
+        this.collected = new ReferenceQueue<>();
+    }
+
+    @Override
+    public YamlNode intern(final YamlNode node) {
+        this.expunge();
+        YamlNode interned = null;
+        if(node != null) {
+            final Shared known = this.table.get(new Shared(node, null));
+            if(known != null) {
+                interned = known.get();
+            }
+            if(interned == null) {
+                interned = this.canonical(node);
+            }
+        }
+        return interned;
+    }
+
+    @Override
+    public int size() {
+        this.expunge();
+        return this.table.size();
+    }
+
+    /**
+     * Intern the children of the given node, then the node itself. Flow
+     * collections are kept as they are.
+     * @param node YamlNode which is not in the table.
+     * @return Canonical YamlNode.
+     */
+    private YamlNode canonical(final YamlNode node) {
+        final YamlNode canonical;
+        final Node type = node.type();
+        if(IndentedPrint.isFlowStyle(node)) {
+            canonical = node;
+        } else if(type == Node.MAPPING) {
+            canonical = this.mapping(node.asMapping());
+        } else if(type == Node.SEQUENCE) {
+            canonical = this.sequence(node.asSequence());
+        } else if(type == Node.SCALAR) {
+            canonical = this.scalar(node.asScalar());
+        } else {
+            canonical = node;
+        }
+        return canonical;
+    }
+
+    /**
+     * Intern a mapping. It is shared as it is if it is a built mapping
+     * whose pairs are all canonical already.
+     * @param mapping YamlMapping.
+     * @return Canonical YamlMapping.
+     */
+    private YamlNode mapping(final YamlMapping mapping) {
+        boolean same = mapping instanceof RtYamlMapping;
+        final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>();
+        for(final Map.Entry<YamlNode, YamlNode> pair : mapping.entries()) {
+            final YamlNode key = this.intern(pair.getKey());
+            final YamlNode value = this.intern(pair.getValue());
+            same = same && key == pair.getKey() && value == pair.getValue();
+            entries.put(key, value);
+        }
+        final YamlNode canonical;
+        if(same) {
+            canonical = this.shared(mapping);
+        } else {
+            canonical = this.shared(
+                new RtYamlMapping(entries, mapping.comment().value())
+            );
+        }
+        return canonical;
+    }
+
+    /**
+     * Intern a sequence. It is shared as it is if it is a built sequence
+     * whose elements are all canonical already.
+     * @param sequence YamlSequence.
+     * @return Canonical YamlSequence.
+     */
+    private YamlNode sequence(final YamlSequence sequence) {
+        boolean same = sequence instanceof RtYamlSequence;
+        final List<YamlNode> elements = new ArrayList<>(sequence.size());
+        for(final YamlNode element : sequence.values()) {
+            final YamlNode interned = this.intern(element);
+            same = same && interned == element;
+            elements.add(interned);
+        }
+        final YamlNode canonical;
+        if(same) {
+            canonical = this.shared(sequence);
+        } else {
+            canonical = this.shared(
+                new RtYamlSequence(elements, sequence.comment().value())
+            );
+        }
+        return canonical;
+    }
+
+    /**
+     * Intern a scalar. Built scalars are shared as they are, other block
+     * scalars (read or streamed) are not interned and any other scalar is
+     * materialised into a plain scalar first.
+     * @param scalar Scalar.
+     * @return Canonical Scalar.
+     */
+    private YamlNode scalar(final Scalar scalar) {
+        final YamlNode canonical;
+        if(scalar instanceof PlainStringScalar
+            || scalar instanceof BuiltFoldedBlockScalar
+            || scalar instanceof BuiltLiteralBlockScalar) {
+            canonical = this.shared(scalar);
+        } else if(scalar instanceof BaseFoldedScalar
+            || IndentedPrint.isLiteral(scalar)) {
+            canonical = scalar;
+        } else {
+            final Comment comment = scalar.comment();
+            final PlainStringScalar plain;
+            if(comment instanceof ScalarComment) {
+                plain = new PlainStringScalar(
+                    scalar.value(),
+                    ((ScalarComment) comment).above().value(),
+                    ((ScalarComment) comment).inline().value()
+                );
+            } else {
+                plain = new PlainStringScalar(
+                    scalar.value(), comment.value(), ""
+                );
+            }
+            canonical = this.shared(plain);
+        }
+        return canonical;
+    }
+
+    /**
+     * Put the given canonical candidate in the table, unless an identical
+     * node is there already.
+     * @param candidate YamlNode whose children are all canonical.
+     * @return The shared instance.
+     */
+    private YamlNode shared(final YamlNode candidate) {
+        final Shared entry = new Shared(candidate, this.collected);
+        YamlNode shared = null;
+        while(shared == null) {
+            final Shared previous = this.table.putIfAbsent(entry, entry);
+            if(previous == null) {
+                shared = candidate;
+            } else {
+                shared = previous.get();
+                if(shared == null) {
+                    this.table.remove(previous, previous);
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Remove the garbage collected instances from the table.
+     */
+    private void expunge() {
+        Reference<? extends YamlNode> cleared = this.collected.poll();
+        while(cleared != null) {
+            this.table.remove(cleared);
+            cleared = this.collected.poll();
+        }
+    }
+
+    /**
+     * Weak reference to a shared node, which is also the key of the table.
+     * Two references are equal if their nodes are identical in the
+     * hash-consing sense: same kind, same comment and either the same
+     * value (scalars) or the very same children (mappings, sequences).
+     * A cleared reference is equal only to itself.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class Shared extends WeakReference<YamlNode> {
+
+        /**
+         * Hash of the referenced node, computed once.
+         */
+        private final int hash;
+
+        /**
+         * Ctor.
+         * @param node Referenced node.
+         * @param queue Queue where the reference is put once cleared,
+         *  may be null for lookups.
+         */
+        Shared(final YamlNode node, final ReferenceQueue<YamlNode> queue) {
+            super(node, queue);
+            this.hash = Shared.hash(node);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            boolean equal = this == other;
+            if(!equal && other instanceof Shared
+                && ((Shared) other).hash == this.hash) {
+                final YamlNode mine = this.get();
+                final YamlNode theirs = ((Shared) other).get();
+                equal = mine != null && theirs != null
+                    && Shared.identical(mine, theirs);
+            }
+            return equal;
+        }
+
+        /**
+         * Hash of a node: value and comment of scalars, comment and
+         * children identities of mappings and sequences.
+         * @param node YamlNode.
+         * @return Integer.
+         */
+        private static int hash(final YamlNode node) {
+            int hash = node.getClass().hashCode() * 31
+                + Shared.comment(node).hashCode();
+            if(node.type() == Node.SCALAR) {
+                hash = hash * 31 + Objects.hashCode(node.asScalar().value());
+            } else {
+                for(final YamlNode child : Shared.children(node)) {
+                    hash = hash * 31 + System.identityHashCode(child);
+                }
+            }
+            return hash;
+        }
+
+        /**
+         * Are the two nodes identical in the hash-consing sense?
+         * @param node First node.
+         * @param other Second node.
+         * @return True or false.
+         */
+        private static boolean identical(
+            final YamlNode node, final YamlNode other
+        ) {
+            boolean identical = node.getClass() == other.getClass()
+                && Shared.comment(node).equals(Shared.comment(other));
+            if(identical && node.type() == Node.SCALAR) {
+                identical = Objects.equals(
+                    node.asScalar().value(), other.asScalar().value()
+                );
+            } else if(identical) {
+                final Iterator<YamlNode> mine = Shared.children(node)
+                    .iterator();
+                final Iterator<YamlNode> theirs = Shared.children(other)
+                    .iterator();
+                while(identical && mine.hasNext() && theirs.hasNext()) {
+                    identical = mine.next() == theirs.next();
+                }
+                identical = identical && !mine.hasNext() && !theirs.hasNext();
+            }
+            return identical;
+        }
+
+        /**
+         * Children of a mapping (keys and values, alternating) or of a
+         * sequence.
+         * @param node YamlNode.
+         * @return List of children.
+         */
+        private static List<YamlNode> children(final YamlNode node) {
+            final List<YamlNode> children = new ArrayList<>();
+            if(node.type() == Node.MAPPING) {
+                for(final Map.Entry<YamlNode, YamlNode> pair
+                    : node.asMapping().entries()) {
+                    children.add(pair.getKey());
+                    children.add(pair.getValue());
+                }
+            } else if(node.type() == Node.SEQUENCE) {
+                children.addAll(node.asSequence().values());
+            }
+            return children;
+        }
+
+        /**
+         * Text of the node's comment. For scalars it contains both the
+         * comment above and the inline one.
+         * @param node YamlNode.
+         * @return String.
+         */
+        private static String comment(final YamlNode node) {
+            final Comment comment = node.comment();
+            final String text;
+            if(comment instanceof ScalarComment) {
+                text = ((ScalarComment) comment).above().value()
+                    + '\n' + ((ScalarComment) comment).inline().value();
+            } else {
+                text = comment.value();
+            }
+            return text;
+        }
+    }
+}
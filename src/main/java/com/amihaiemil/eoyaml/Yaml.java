@@ -30,9 +30,16 @@ package com.amihaiemil.eoyaml;
 import javax.json.JsonArray;
 import javax.json.JsonObject;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Yaml.
+ * @checkstyle ClassFanOutComplexity (300 lines)
+ * @checkstyle ClassDataAbstractionCoupling (300 lines)
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 1.0.0
@@ -62,6 +69,20 @@ public final class Yaml {
         return new MutableYamlMappingBuilder();
     }
 
+    /**
+     * Create a mutable, NOT thread-safe, {@link YamlMappingBuilder}, presized
+     * for the expected number of pairs.
+     * @param expectedSize Expected number of pairs.
+     * @return Builder of YamlMapping.
+     */
+    public static YamlMappingBuilder createMutableYamlMappingBuilder(
+        final int expectedSize
+    ) {
+        return new MutableYamlMappingBuilder(
+            new LinkedHashMap<>(expectedSize * 4 / 3 + 1)
+        );
+    }
+
     /**
      * Create an immutable, thread-safe, {@link YamlSequenceBuilder}.
      * @return Builder of YamlMapping.
@@ -78,6 +99,57 @@ public final class Yaml {
         return new MutableYamlSequenceBuilder();
     }
 
+    /**
+     * Create a mutable, NOT thread-safe, {@link YamlSequenceBuilder}, presized
+     * for the expected number of elements.
+     * @param expectedSize Expected number of elements.
+     * @return Builder of YamlSequence.
+     */
+    public static YamlSequenceBuilder createMutableYamlSequenceBuilder(
+        final int expectedSize
+    ) {
+        return new MutableYamlSequenceBuilder(new ArrayList<>(expectedSize));
+    }
+
+    /**
+     * Create a {@link YamlInterner}, which shares one instance between
+     * identical subtrees. It holds the shared instances weakly.
+     * @return YamlInterner.
+     */
+    public static YamlInterner createYamlInterner() {
+        return new WeakYamlInterner();
+    }
+
+    /**
+     * Create an immutable, thread-safe, {@link YamlMappingBuilder} which
+     * interns the built mappings and their children with the given
+     * {@link YamlInterner}.
+     * @param interner YamlInterner.
+     * @return Builder of YamlMapping.
+     */
+    public static YamlMappingBuilder createYamlMappingBuilder(
+        final YamlInterner interner
+    ) {
+        return new InterningYamlMappingBuilder(
+            new RtYamlMappingBuilder(), interner
+        );
+    }
+
+    /**
+     * Create an immutable, thread-safe, {@link YamlSequenceBuilder} which
+     * interns the built sequences and their elements with the given
+     * {@link YamlInterner}.
+     * @param interner YamlInterner.
+     * @return Builder of YamlSequence.
+     */
+    public static YamlSequenceBuilder createYamlSequenceBuilder(
+        final YamlInterner interner
+    ) {
+        return new InterningYamlSequenceBuilder(
+            new RtYamlSequenceBuilder(), interner
+        );
+    }
+
     /**
      * Create a {@link YamlScalarBuilder}.
      * @return Builder of Yaml Scalars.
@@ -170,6 +242,147 @@ public final class Yaml {
         return new RtYamlPrinter(destination, lineSeparator);
     }
 
+    /**
+     * Create a YamlPrinter which writes a YamlNode as UTF-8 bytes, straight
+     * to the given OutputStream. The chars are encoded into a buffer, without
+     * an OutputStreamWriter.
+     * @param destination OutputStream where the YamlNode will be printed.
+     * @return YamlPrinter.
+     */
+    public static YamlPrinter createYamlPrinter(
+        final OutputStream destination
+    ) {
+        return Yaml.createYamlPrinter(destination, System.lineSeparator());
+    }
+
+    /**
+     * Create a YamlPrinter which writes a YamlNode as UTF-8 bytes, straight
+     * to the given OutputStream, with the specified line separator.
+     * @param destination OutputStream where the YamlNode will be printed.
+     * @param lineSeparator Line separator.
+     * @return YamlPrinter.
+     */
+    public static YamlPrinter createYamlPrinter(
+        final OutputStream destination, final String lineSeparator
+    ) {
+        return new RtYamlPrinter(new Utf8Writer(destination), lineSeparator);
+    }
+
+    /**
+     * Create a YamlPrinter which writes a YamlNode as UTF-8 bytes to the
+     * given channel (e.g. a FileChannel or a SocketChannel). The channel
+     * must be in blocking mode.
+     * @param destination Channel where the YamlNode will be printed.
+     * @return YamlPrinter.
+     * @throws IllegalArgumentException If the channel is a non-blocking
+     *  SelectableChannel.
+     */
+    public static YamlPrinter createYamlPrinter(
+        final WritableByteChannel destination
+    ) {
+        return new RtYamlPrinter(
+            new Utf8Writer(destination), System.lineSeparator()
+        );
+    }
+
+    /**
+     * Create a YamlPrinter which writes a YamlNode as UTF-8 bytes to the
+     * given channel, encoding them into the given buffer. The buffer is
+     * cleared before printing, so it can be reused from one print to another.
+     * The channel must be in blocking mode.
+     * @param destination Channel where the YamlNode will be printed.
+     * @param buffer Buffer for the encoded bytes, of at least 4 bytes.
+     * @return YamlPrinter.
+     * @throws IllegalArgumentException If the buffer is smaller than 4
+     *  bytes or the channel is a non-blocking SelectableChannel.
+     */
+    public static YamlPrinter createYamlPrinter(
+        final WritableByteChannel destination, final ByteBuffer buffer
+    ) {
+        return new RtYamlPrinter(
+            new Utf8Writer(destination, buffer), System.lineSeparator()
+        );
+    }
+
+    /**
+     * Create a YamlPrinter which renders the elements of large YamlStreams
+     * and block YamlSequences in parallel, on the common ForkJoinPool.
+     * The output is the same as the one of
+     * {@link #createYamlPrinter(Writer)}.
+     * @param destination Writer where the YamlNode will be printed.
+     * @return YamlPrinter.
+     */
+    public static YamlPrinter createParallelYamlPrinter(
+        final Writer destination
+    ) {
+        return new RtParallelYamlPrinter(destination);
+    }
+
+    /**
+     * Create a YamlPrinter which renders the elements of large YamlStreams
+     * and block YamlSequences in parallel, on the given pool. At most
+     * window chunks of elements are held in memory at any time.
+     * @param destination Writer where the YamlNode will be printed.
+     * @param pool Pool where the chunks are rendered.
+     * @param window Maximum number of chunks held in memory.
+     * @return YamlPrinter.
+     */
+    public static YamlPrinter createParallelYamlPrinter(
+        final Writer destination, final ForkJoinPool pool, final int window
+    ) {
+        return new RtParallelYamlPrinter(destination, pool, window);
+    }
+
+    /**
+     * Create a YamlStreamPrinter, which appends YAML documents one by one to
+     * the given Writer, leaving it open until the printer is closed.
+     * @param destination Writer where the documents will be printed.
+     * @return YamlStreamPrinter.
+     */
+    public static YamlStreamPrinter createYamlStreamPrinter(
+        final Writer destination
+    ) {
+        return Yaml.createYamlStreamPrinter(
+            destination, System.lineSeparator()
+        );
+    }
+
+    /**
+     * Create a YamlStreamPrinter, which appends YAML documents one by one to
+     * the given Writer, with the specified line separator.
+     * @param destination Writer where the documents will be printed.
+     * @param lineSeparator Line separator.
+     * @return YamlStreamPrinter.
+     */
+    public static YamlStreamPrinter createYamlStreamPrinter(
+        final Writer destination, final String lineSeparator
+    ) {
+        return new RtYamlStreamPrinter(destination, lineSeparator);
+    }
+
+    /**
+     * Create a YamlWriter, to write YAML incrementally, as the data comes,
+     * without building any YamlNode.
+     * @param destination Writer where the YAML will be written.
+     * @return YamlWriter.
+     */
+    public static YamlWriter createYamlWriter(final Writer destination) {
+        return Yaml.createYamlWriter(destination, System.lineSeparator());
+    }
+
+    /**
+     * Create a YamlWriter, to write YAML incrementally, with the specified
+     * line separator.
+     * @param destination Writer where the YAML will be written.
+     * @param lineSeparator Line separator.
+     * @return YamlWriter.
+     */
+    public static YamlWriter createYamlWriter(
+        final Writer destination, final String lineSeparator
+    ) {
+        return new RtYamlWriter(destination, lineSeparator);
+    }
+
     /**
      * Create a YAML dump to represent the given object as YAML.
      * @param object Object to dump.
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Collectors which build YAML nodes from Java Streams. They work with
+ * parallel streams: each thread collects a partial result, the partial
+ * results are merged and the node is built only once, at the end. The
+ * encounter order of the stream is kept.<br><br>
+ * The collected values are converted the same way as in
+ * {@link YamlSequenceBuilder#addAll(Iterable)}: plain values become
+ * scalars, Maps become mappings, Iterables and arrays become sequences
+ * and YamlNodes are taken as they are.
+ * <pre>
+ *   final YamlSequence names = users.parallelStream()
+ *       .map(User::name)
+ *       .collect(YamlCollectors.toYamlSequence());
+ * </pre>
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class YamlCollectors {
+
+    /**
+     * Hidden ctor.
+     */
+    private YamlCollectors() { }
+
+    /**
+     * Collect the elements of a Stream into a YamlSequence.
+     * @param <T> Type of the elements.
+     * @return Collector.
+     */
+    public static <T> Collector<T, ?, YamlSequence> toYamlSequence() {
+        return YamlCollectors.toYamlSequence("");
+    }
+
+    /**
+     * Collect the elements of a Stream into a YamlSequence.
+     * @param comment Comment referring to the sequence.
+     * @param <T> Type of the elements.
+     * @return Collector.
+     */
+    public static <T> Collector<T, ?, YamlSequence> toYamlSequence(
+        final String comment
+    ) {
+        return Collector.of(
+            ArrayList::new,
+            YamlCollectors::accumulate,
+            YamlCollectors::combined,
+            nodes -> new RtYamlSequence(nodes, comment)
+        );
+    }
+
+    /**
+     * Collect the elements of a Stream into a YamlMapping. If a key
+     * is collected more than once, it keeps its first position and the
+     * value which comes last in the encounter order, same as with
+     * the {@link YamlMappingBuilder}.
+     * @param keys Function giving the key of an element.
+     * @param values Function giving the value of an element.
+     * @param <T> Type of the elements.
+     * @return Collector.
+     */
+    public static <T> Collector<T, ?, YamlMapping> toYamlMapping(
+        final Function<? super T, ?> keys,
+        final Function<? super T, ?> values
+    ) {
+        return YamlCollectors.toYamlMapping(keys, values, "");
+    }
+
+    /**
+     * Collect the elements of a Stream into a YamlMapping.
+     * @param keys Function giving the key of an element.
+     * @param values Function giving the value of an element.
+     * @param comment Comment referring to the mapping.
+     * @param <T> Type of the elements.
+     * @return Collector.
+     */
+    public static <T> Collector<T, ?, YamlMapping> toYamlMapping(
+        final Function<? super T, ?> keys,
+        final Function<? super T, ?> values,
+        final String comment
+    ) {
+        return Collector.of(
+            LinkedHashMap<YamlNode, YamlNode>::new,
+            (pairs, element) -> {
+                final YamlNode key = new BuiltYamlDump(
+                    keys.apply(element)
+                ).dump();
+                if(key == null || key.isEmpty()) {
+                    throw new IllegalArgumentException(
+                        "The key in YamlMapping cannot be null or empty!"
+                    );
+                }
+                pairs.put(key, new BuiltYamlDump(values.apply(element)).dump());
+            },
+            (left, right) -> {
+                left.putAll(right);
+                return left;
+            },
+            pairs -> new RtYamlMapping(pairs, comment)
+        );
+    }
+
+    /**
+     * Collect the elements of a Stream into a YamlStream, each element
+     * being a document.
+     * @param <T> Type of the elements.
+     * @return Collector.
+     */
+    public static <T> Collector<T, ?, YamlStream> toYamlStream() {
+        return Collector.of(
+            ArrayList::new,
+            YamlCollectors::accumulate,
+            YamlCollectors::combined,
+            RtYamlStreamBuilder.BuiltYamlStream::new
+        );
+    }
+
+    /**
+     * Add an element, converted to YamlNode, to a partial result.
+     * @param nodes Partial result.
+     * @param element Element.
+     */
+    private static void accumulate(
+        final List<YamlNode> nodes, final Object element
+    ) {
+        nodes.add(new BuiltYamlDump(element).dump());
+    }
+
+    /**
+     * Merge two partial results, keeping the encounter order.
+     * @param left Partial result of the first elements.
+     * @param right Partial result of the next elements.
+     * @return Merged partial result.
+     */
+    private static List<YamlNode> combined(
+        final List<YamlNode> left, final List<YamlNode> right
+    ) {
+        left.addAll(right);
+        return left;
+    }
+}
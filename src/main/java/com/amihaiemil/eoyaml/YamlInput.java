@@ -100,6 +100,17 @@ public interface YamlInput {
      */
     Scalar readLiteralBlockScalar() throws IOException;
 
+    /**
+     * Read the input without its comments. The comment lines are dropped
+     * while reading and the comment of every read node is empty, so use
+     * this when you do not care about comments: reading is faster.
+     * The default implementation returns this input, comments included.
+     * @return YamlInput which ignores the comments.
+     */
+    default YamlInput withoutComments() {
+        return this;
+    }
+
     /**
      * Read the given input as a generic YamlNode.
      * @return YamlNode.
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+/**
+ * Canonicalising node factory (hash-consing). It returns one shared instance
+ * for every group of identical subtrees, so configurations which repeat the
+ * same sub-mappings or scalars keep only one copy of them in memory:
+ * <pre>
+ *   final YamlInterner interner = Yaml.createYamlInterner();
+ *   final YamlMapping config = interner.intern(
+ *       Yaml.createYamlInput(file).readYamlMapping()
+ *   );
+ * </pre>
+ * Two nodes are shared only if they have the same kind, the same value or
+ * children and the same comments, so the printed YAML does not change.
+ * The interned nodes are immutable. YAML streams are returned as they are.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public interface YamlInterner {
+
+    /**
+     * Intern the given node and, recursively, all its children.
+     * @param node YamlNode to intern.
+     * @return The shared instance, equal to the given node.
+     */
+    YamlNode intern(final YamlNode node);
+
+    /**
+     * Intern the given mapping and, recursively, all its children.
+     * @param mapping YamlMapping to intern.
+     * @return The shared instance, equal to the given mapping.
+     */
+    default YamlMapping intern(final YamlMapping mapping) {
+        return (YamlMapping) this.intern((YamlNode) mapping);
+    }
+
+    /**
+     * Intern the given sequence and, recursively, all its elements.
+     * @param sequence YamlSequence to intern.
+     * @return The shared instance, equal to the given sequence.
+     */
+    default YamlSequence intern(final YamlSequence sequence) {
+        return (YamlSequence) this.intern((YamlNode) sequence);
+    }
+
+    /**
+     * Intern the given scalar.
+     * @param scalar Scalar to intern.
+     * @return The shared instance, equal to the given scalar.
+     */
+    default Scalar intern(final Scalar scalar) {
+        return (Scalar) this.intern((YamlNode) scalar);
+    }
+
+    /**
+     * Number of shared instances currently held by this interner.
+     * @return Integer.
+     */
+    int size();
+}
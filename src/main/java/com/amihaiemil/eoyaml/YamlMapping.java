@@ -35,6 +35,11 @@ import java.util.*;
 
 /**
  * A Yaml mapping.
+ * <br><br>
+ * The typed values (int, long, double, boolean etc) are resolved only once
+ * per Scalar and then cached. The numbers are read as the Java parse
+ * methods (e.g. Integer.parseInt(...)) read them, so forms such as 0x1F,
+ * 0o17, .inf or .nan are not accepted.
  * @checkstyle ExecutableStatementCount (300 lines)
  * @checkstyle ReturnCount (1000 lines)
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -57,14 +62,28 @@ public interface YamlMapping extends YamlNode {
      */
     YamlNode value(final YamlNode key);
 
+    /**
+     * The key/value pairs of this mapping, in order. Prefer this over
+     * iterating keys() and calling value(...) for each key, since the
+     * implementations read all the pairs in one pass.
+     * @return Set of key/value pairs.
+     */
+    default Set<Map.Entry<YamlNode, YamlNode>> entries() {
+        final Map<YamlNode, YamlNode> entries = new LinkedHashMap<>();
+        for(final YamlNode key : this.keys()) {
+            entries.put(key, this.value(key));
+        }
+        return Collections.unmodifiableMap(entries).entrySet();
+    }
+
     /**
      * Fetch the values of this mapping.
      * @return Collection of {@link YamlNode}
      */
     default Collection<YamlNode> values() {
-        final List<YamlNode> values = new LinkedList<>();
-        for(final YamlNode key : this.keys()) {
-            values.add(this.value(key));
+        final List<YamlNode> values = new ArrayList<>();
+        for(final Map.Entry<YamlNode, YamlNode> entry : this.entries()) {
+            values.add(entry.getValue());
         }
         return values;
     }
@@ -262,7 +281,7 @@ public interface YamlMapping extends YamlNode {
     default int integer(final YamlNode key) {
         final YamlNode value = this.value(key);
         if(value instanceof Scalar) {
-            return Integer.parseInt(((Scalar) value).value());
+            return TypedValue.resolved((Scalar) value).integer();
         }
         return -1;
     }
@@ -302,7 +321,7 @@ public interface YamlMapping extends YamlNode {
     default float floatNumber(final YamlNode key) {
         final YamlNode value = this.value(key);
         if(value instanceof Scalar) {
-            return Float.parseFloat(((Scalar) value).value());
+            return TypedValue.resolved((Scalar) value).floatNumber();
         }
         return -1;
     }
@@ -342,7 +361,7 @@ public interface YamlMapping extends YamlNode {
     default double doubleNumber(final YamlNode key) {
         final YamlNode value = this.value(key);
         if(value instanceof Scalar) {
-            return Double.parseDouble(((Scalar) value).value());
+            return TypedValue.resolved((Scalar) value).doubleNumber();
         }
         return -1.0;
     }
@@ -382,7 +401,7 @@ public interface YamlMapping extends YamlNode {
     default long longNumber(final YamlNode key) {
         final YamlNode value = this.value(key);
         if(value instanceof Scalar) {
-            return Long.parseLong(((Scalar) value).value());
+            return TypedValue.resolved((Scalar) value).longNumber();
         }
         return -1L;
     }
@@ -420,7 +439,7 @@ public interface YamlMapping extends YamlNode {
     default LocalDate date(final YamlNode key) {
         final YamlNode value = this.value(key);
         if(value instanceof Scalar) {
-            return LocalDate.parse(((Scalar) value).value());
+            return TypedValue.resolved((Scalar) value).date();
         }
         return null;
     }
@@ -458,7 +477,7 @@ public interface YamlMapping extends YamlNode {
     default LocalDateTime dateTime(final YamlNode key) {
         final YamlNode value = this.value(key);
         if(value instanceof Scalar) {
-            return LocalDateTime.parse(((Scalar) value).value());
+            return TypedValue.resolved((Scalar) value).dateTime();
         }
         return null;
     }
@@ -496,7 +515,7 @@ public interface YamlMapping extends YamlNode {
     default boolean bool(final YamlNode key) {
         final YamlNode value = this.value(key);
         if(value instanceof Scalar) {
-            return Boolean.parseBoolean(((Scalar) value).value());
+            return TypedValue.resolved((Scalar) value).bool();
         }
         return false;
     }
@@ -504,9 +523,9 @@ public interface YamlMapping extends YamlNode {
     @Override
     default List<YamlNode> children() {
         final List<YamlNode> children = new ArrayList<>();
-        for (final YamlNode key : this.keys()) {
-            children.add(key);
-            children.add(this.value(key));
+        for (final Map.Entry<YamlNode, YamlNode> entry : this.entries()) {
+            children.add(entry.getKey());
+            children.add(entry.getValue());
         }
         return children;
     }
@@ -33,6 +33,7 @@ import javax.json.JsonStructure;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Builder of YamlMapping.
@@ -240,6 +241,27 @@ public interface YamlMappingBuilder {
         return this.add(key, node);
     }
 
+    /**
+     * Add all the pairs of the given Map, in its iteration order. The values
+     * are converted straight into YAML nodes: Strings, numbers, booleans,
+     * chars, enums and dates become plain scalars, Maps become mappings,
+     * Iterables and arrays become sequences and YamlNodes are added as
+     * they are. Only other Objects are dumped through reflection, same as
+     * with {@link Yaml#createYamlDump(Object)}.
+     * @param pairs Map of pairs.
+     * @return Builder
+     */
+    default YamlMappingBuilder addAll(final Map<String, ?> pairs) {
+        YamlMappingBuilder builder = this;
+        for(final Map.Entry<String, ?> pair : pairs.entrySet()) {
+            builder = builder.add(
+                new PlainStringScalar(pair.getKey()),
+                new BuiltYamlDump(pair.getValue()).dump()
+            );
+        }
+        return builder;
+    }
+
     /**
      * Build the YamlMapping.
      * @return Built YamlMapping.
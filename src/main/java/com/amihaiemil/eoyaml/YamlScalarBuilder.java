@@ -27,7 +27,10 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.io.Reader;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.function.Supplier;
 
 /**
  * Builder of Yaml Scalar. Implementations should be immutable and thread-safe.
@@ -155,4 +158,86 @@ public interface YamlScalarBuilder {
      */
     Scalar buildLiteralBlockScalar(final String comment);
 
+    /**
+     * Build a Literal Block Scalar whose content is read from the given
+     * source every time it is needed, instead of being held in memory.
+     * Use this for big contents (embedded files, certificates etc).
+     * The builder returned by {@link Yaml#createYamlScalarBuilder()}
+     * ignores the lines added to it. The default implementation does not
+     * stream: it reads the whole content and adds its lines after the
+     * ones already added to this builder.
+     * @param content Source of the content. It should give a new Reader
+     *  every time it is called.
+     * @param comment Comment referring to the built scalar.
+     * @return The built Scalar.
+     */
+    default Scalar buildLiteralBlockScalar(
+        final Supplier<Reader> content, final String comment
+    ) {
+        return new ContentLines(content).addedTo(this)
+            .buildLiteralBlockScalar(comment);
+    }
+
+    /**
+     * Build a Literal Block Scalar whose content is read from the given
+     * source every time it is needed, instead of being held in memory.
+     * @param content Source of the content. It should give a new Reader
+     *  every time it is called.
+     * @return The built Scalar.
+     */
+    default Scalar buildLiteralBlockScalar(final Supplier<Reader> content) {
+        return this.buildLiteralBlockScalar(content, "");
+    }
+
+    /**
+     * Build a Literal Block Scalar whose content is read from the given
+     * UTF-8 file every time it is needed, instead of being held in memory.
+     * @param content File with the content of the scalar.
+     * @return The built Scalar.
+     */
+    default Scalar buildLiteralBlockScalar(final Path content) {
+        return this.buildLiteralBlockScalar(new FileContent(content));
+    }
+
+    /**
+     * Build a Folded Block Scalar whose content is read from the given
+     * source every time it is needed, instead of being held in memory.
+     * Use this for big contents which you want printed folded.
+     * The builder returned by {@link Yaml#createYamlScalarBuilder()}
+     * ignores the lines added to it. The default implementation does not
+     * stream: it reads the whole content and adds its lines after the
+     * ones already added to this builder.
+     * @param content Source of the content. It should give a new Reader
+     *  every time it is called.
+     * @param comment Comment referring to the built scalar.
+     * @return The built Scalar.
+     */
+    default Scalar buildFoldedBlockScalar(
+        final Supplier<Reader> content, final String comment
+    ) {
+        return new ContentLines(content).addedTo(this)
+            .buildFoldedBlockScalar(comment);
+    }
+
+    /**
+     * Build a Folded Block Scalar whose content is read from the given
+     * source every time it is needed, instead of being held in memory.
+     * @param content Source of the content. It should give a new Reader
+     *  every time it is called.
+     * @return The built Scalar.
+     */
+    default Scalar buildFoldedBlockScalar(final Supplier<Reader> content) {
+        return this.buildFoldedBlockScalar(content, "");
+    }
+
+    /**
+     * Build a Folded Block Scalar whose content is read from the given
+     * UTF-8 file every time it is needed, instead of being held in memory.
+     * @param content File with the content of the scalar.
+     * @return The built Scalar.
+     */
+    default Scalar buildFoldedBlockScalar(final Path content) {
+        return this.buildFoldedBlockScalar(new FileContent(content));
+    }
+
 }
@@ -32,9 +32,18 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * A Yaml sequence.
+ * <br><br>
+ * The typed values (int, long, double, boolean etc) are resolved only once
+ * per Scalar and then cached. The numbers are read as the Java parse
+ * methods (e.g. Integer.parseInt(...)) read them, so forms such as 0x1F,
+ * 0o17, .inf or .nan are not accepted.
  * @checkstyle ReturnCount (400 lines)
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
@@ -53,6 +62,32 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
         return new ArrayList<>(this.values());
     }
 
+    /**
+     * This sequence as an unmodifiable, indexed List. It implements
+     * {@link RandomAccess}, so get(index) takes constant time.
+     * @return List of YamlNode.
+     */
+    default List<YamlNode> asList() {
+        return Collections.unmodifiableList(new ArrayList<>(this.values()));
+    }
+
+    /**
+     * Stream of the elements in this sequence. Its Spliterator is SIZED and
+     * SUBSIZED, so parallel streams split the sequence evenly.
+     * @return Stream of YamlNode.
+     */
+    default Stream<YamlNode> stream() {
+        return this.asList().stream();
+    }
+
+    /**
+     * Parallel stream of the elements in this sequence.
+     * @return Stream of YamlNode.
+     */
+    default Stream<YamlNode> parallelStream() {
+        return this.asList().parallelStream();
+    }
+
     /**
      * Returns this YamlSequence's children Iterator.<br><br>
      * It is equivalent to YamlSequence.values().iterator().
@@ -170,11 +205,7 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @throws NumberFormatException - if the node is not a parsable integer.
      */
     default int integer(final int index) {
-        final String value = this.string(index);
-        if(value == null || value.isEmpty()) {
-            throw new NumberFormatException();
-        }
-        return Integer.parseInt(value);
+        return TypedValue.number(this.yamlNode(index)).integer();
     }
 
     /**
@@ -189,11 +220,7 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @throws NumberFormatException - if the node is not a parsable float.
      */
     default float floatNumber(final int index) {
-        final String value = this.string(index);
-        if(value == null || value.isEmpty()) {
-            throw new NumberFormatException();
-        }
-        return Float.parseFloat(value);
+        return TypedValue.number(this.yamlNode(index)).floatNumber();
     }
 
     /**
@@ -208,11 +235,7 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @throws NumberFormatException - if the node is not a parsable double.
      */
     default double doubleNumber(final int index) {
-        final String value = this.string(index);
-        if(value == null || value.isEmpty()) {
-            throw new NumberFormatException();
-        }
-        return Double.parseDouble(value);
+        return TypedValue.number(this.yamlNode(index)).doubleNumber();
     }
 
     /**
@@ -227,11 +250,7 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @throws NumberFormatException - if the node is not a parsable long.
      */
     default long longNumber(final int index) {
-        final String value = this.string(index);
-        if(value == null || value.isEmpty()) {
-            throw new NumberFormatException();
-        }
-        return Long.parseLong(value);
+        return TypedValue.number(this.yamlNode(index)).longNumber();
     }
 
     /**
@@ -248,9 +267,9 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      */
     default LocalDate date(final int index) {
         LocalDate date = null;
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            date = LocalDate.parse(value);
+        final YamlNode node = this.yamlNode(index);
+        if(node instanceof Scalar && !node.isEmpty()) {
+            date = TypedValue.resolved((Scalar) node).date();
         }
         return date;
     }
@@ -269,9 +288,9 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      */
     default LocalDateTime dateTime(final int index) {
         LocalDateTime datetime = null;
-        final String value = this.string(index);
-        if(value != null && !value.isEmpty()) {
-            datetime = LocalDateTime.parse(value);
+        final YamlNode node = this.yamlNode(index);
+        if(node instanceof Scalar && !node.isEmpty()) {
+            datetime = TypedValue.resolved((Scalar) node).dateTime();
         }
         return datetime;
     }
@@ -288,7 +307,93 @@ public interface YamlSequence extends YamlNode, Iterable<YamlNode> {
      * @return Boolean.
      */
     default boolean bool(final int index) {
-        return Boolean.parseBoolean(this.string(index));
+        final YamlNode node = this.yamlNode(index);
+        return node instanceof Scalar
+            && TypedValue.resolved((Scalar) node).bool();
+    }
+
+    /**
+     * All the values of this sequence, as ints. The sequence is walked
+     * only once and each value is parsed only once.
+     * @return Array of int.
+     * @throws NumberFormatException - if any value is not a parsable integer.
+     */
+    default int[] toIntArray() {
+        final Collection<YamlNode> values = this.values();
+        final int[] array = new int[values.size()];
+        int idx = 0;
+        for(final YamlNode node : values) {
+            array[idx] = TypedValue.number(node).integer();
+            idx = idx + 1;
+        }
+        return array;
+    }
+
+    /**
+     * All the values of this sequence, as longs. The sequence is walked
+     * only once and each value is parsed only once.
+     * @return Array of long.
+     * @throws NumberFormatException - if any value is not a parsable long.
+     */
+    default long[] toLongArray() {
+        final Collection<YamlNode> values = this.values();
+        final long[] array = new long[values.size()];
+        int idx = 0;
+        for(final YamlNode node : values) {
+            array[idx] = TypedValue.number(node).longNumber();
+            idx = idx + 1;
+        }
+        return array;
+    }
+
+    /**
+     * All the values of this sequence, as doubles. The sequence is walked
+     * only once and each value is parsed only once.
+     * @return Array of double.
+     * @throws NumberFormatException - if any value is not a parsable double.
+     */
+    default double[] toDoubleArray() {
+        final Collection<YamlNode> values = this.values();
+        final double[] array = new double[values.size()];
+        int idx = 0;
+        for(final YamlNode node : values) {
+            array[idx] = TypedValue.number(node).doubleNumber();
+            idx = idx + 1;
+        }
+        return array;
+    }
+
+    /**
+     * The values of this sequence, as an IntStream. Each value is parsed
+     * only when the stream reaches it.
+     * @return IntStream.
+     * @throws NumberFormatException - if a value is not a parsable integer.
+     */
+    default IntStream intStream() {
+        return this.values().stream()
+            .mapToInt(node -> TypedValue.number(node).integer());
+    }
+
+    /**
+     * The values of this sequence, as a LongStream. Each value is parsed
+     * only when the stream reaches it.
+     * @return LongStream.
+     * @throws NumberFormatException - if a value is not a parsable long.
+     */
+    default LongStream longStream() {
+        return this.values().stream()
+            .mapToLong(node -> TypedValue.number(node).longNumber());
+    }
+
+    /**
+     * The values of this sequence, as a DoubleStream. Each value is parsed
+     * only when the stream reaches it.
+     * @return DoubleStream.
+     * @throws NumberFormatException - if a value is not a parsable double.
+     */
+    default DoubleStream doubleStream() {
+        return this.values().stream()
+            .mapToDouble(node -> TypedValue.number(node).doubleNumber());
     }
 
     /**
@@ -154,6 +154,24 @@ public interface YamlSequenceBuilder {
         return this.add(String.valueOf(value));
     }
 
+    /**
+     * Add all the given values, in their iteration order. The values are
+     * converted straight into YAML nodes: Strings, numbers, booleans, chars,
+     * enums and dates become plain scalars, Maps become mappings, Iterables
+     * and arrays become sequences and YamlNodes are added as they are.
+     * Only other Objects are dumped through reflection, same as with
+     * {@link Yaml#createYamlDump(Object)}.
+     * @param values Values to add.
+     * @return Builder
+     */
+    default YamlSequenceBuilder addAll(final Iterable<?> values) {
+        YamlSequenceBuilder builder = this;
+        for(final Object value : values) {
+            builder = builder.add(new BuiltYamlDump(value).dump());
+        }
+        return builder;
+    }
+
     /**
      * Build the YamlSequence.
      * @return Built YamlSequence
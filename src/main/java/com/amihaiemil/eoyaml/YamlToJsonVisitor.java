@@ -44,13 +44,13 @@ final class YamlToJsonVisitor implements YamlVisitor<JsonValue> {
     @Override
     public JsonValue visitYamlMapping(final YamlMapping node) {
         final JsonObjectBuilder object = Json.createObjectBuilder();
-        node.keys().forEach(
-            k -> {
-                if(k instanceof Scalar) {
-                    final String stringKey = ((Scalar) k).value();
+        node.entries().forEach(
+            entry -> {
+                final YamlNode key = entry.getKey();
+                if(key instanceof Scalar) {
                     object.add(
-                        stringKey,
-                        this.visitYamlNode(node.value(stringKey))
+                        ((Scalar) key).value(),
+                        this.visitYamlNode(entry.getValue())
                     );
                 } else {
                     throw new IllegalArgumentException(
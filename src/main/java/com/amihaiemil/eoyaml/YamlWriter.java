@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Incremental YAML writer. Instead of building a whole YamlNode and
+ * printing it, the YAML is written as the methods are called, so any
+ * amount of data can be written with constant memory. Example:
+ * <pre>
+ *   try (YamlWriter yaml = Yaml.createYamlWriter(writer)) {
+ *       yaml.beginMapping()
+ *           .key("name").scalar("eo-yaml")
+ *           .comment("Some developers")
+ *           .key("developers").beginSequence()
+ *               .scalar("amihaiemil")
+ *               .scalar("salikjan")
+ *           .end()
+ *       .end();
+ *   }
+ * </pre>
+ * The output is indented and escaped the same way as the one of
+ * {@link YamlPrinter}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public interface YamlWriter extends Closeable, Flushable {
+
+    /**
+     * Start a new document, with '---'. It can only be called
+     * at the top level, when no mapping or sequence is open. A document
+     * holds one top-level node, so this must be called before writing
+     * each top-level node after the first one.
+     * @return This writer.
+     * @throws IOException If something goes wrong while writing.
+     */
+    YamlWriter beginDocument() throws IOException;
+
+    /**
+     * Start a block mapping: at the top level, as the value of the
+     * last key or as the next item of a sequence.
+     * @return This writer.
+     * @throws IOException If something goes wrong while writing.
+     */
+    YamlWriter beginMapping() throws IOException;
+
+    /**
+     * Start a block sequence: at the top level, as the value of the
+     * last key or as the next item of a sequence.
+     * @return This writer.
+     * @throws IOException If something goes wrong while writing.
+     */
+    YamlWriter beginSequence() throws IOException;
+
+    /**
+     * Write the next key of the current mapping. It must be followed
+     * by its value: a scalar, a mapping or a sequence.
+     * @param key Key, neither null nor empty.
+     * @return This writer.
+     * @throws IllegalArgumentException If the key is null or empty.
+     * @throws IOException If something goes wrong while writing.
+     */
+    YamlWriter key(final String key) throws IOException;
+
+    /**
+     * Write a scalar: the value of the last key, the next item of a
+     * sequence or a top level scalar.
+     * @param value Value of the scalar, escaped if needed.
+     * @return This writer.
+     * @throws IOException If something goes wrong while writing.
+     */
+    default YamlWriter scalar(final String value) throws IOException {
+        return this.scalar(value, "");
+    }
+
+    /**
+     * Write a scalar, with an inline comment.
+     * @param value Value of the scalar, escaped if needed.
+     * @param comment Comment, written on the same line, after the scalar.
+     *  It cannot contain line breaks.
+     * @return This writer.
+     * @throws IllegalArgumentException If the comment has line breaks.
+     * @throws IOException If something goes wrong while writing.
+     */
+    YamlWriter scalar(final String value, final String comment)
+        throws IOException;
+
+    /**
+     * Write a comment, on its own lines, above the next key or item.
+     * @param comment Comment. Each of its lines will start with '# '.
+     * @return This writer.
+     * @throws IOException If something goes wrong while writing.
+     */
+    YamlWriter comment(final String comment) throws IOException;
+
+    /**
+     * End the current mapping or sequence. If nothing was written
+     * in it, it is printed as {} or [].
+     * @return This writer.
+     * @throws IOException If something goes wrong while writing.
+     */
+    YamlWriter end() throws IOException;
+
+    /**
+     * Close the underlying Writer.
+     * @throws IOException If something goes wrong while closing.
+     * @throws IllegalStateException If a mapping or a sequence
+     *  was not ended.
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.BaseYamlMapping;
+import com.amihaiemil.eoyaml.Comment;
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlNode;
+import com.amihaiemil.eoyaml.YamlSequence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Lazy overlay of N YamlMappings. The layers are given from the lowest
+ * priority to the highest (e.g. defaults, environment, tenant, runtime
+ * overrides):
+ * <pre>
+ *     final YamlMapping config = new LayeredYamlMapping(
+ *         defaults, environment, tenant, overrides
+ *     );
+ * </pre>
+ * Nothing is copied when the overlay is created. The value of a key is
+ * resolved when it is read, and then cached: it is the value from the
+ * highest layer which has the key, except that mappings are layered
+ * recursively and sequences are merged, keeping the elements of the lower
+ * layer first and adding only the elements it does not contain already.
+ * The result is the same as merging the layers pairwise with
+ * {@link MergedYamlMapping}, overriding the conflicts.<br><br>
+ * The layers should not change after the overlay is created.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class LayeredYamlMapping extends BaseYamlMapping {
+
+    /**
+     * Layers, from the lowest priority to the highest.
+     */
+    private final List<YamlMapping> layers;
+
+    /**
+     * Resolved values, per key.
+     */
+    private final Map<YamlNode, YamlNode> resolved;
+
+    /**
+     * Keys of all the layers, computed once.
+     */
+    private volatile Set<YamlNode> keys;
+
+    /**
+     * Constructor.
+     * @param layers Layers, from the lowest priority to the highest.
+     */
+    public LayeredYamlMapping(final YamlMapping... layers) {
+        this(Arrays.asList(layers));
+    }
+
+    /**
+     * Constructor.
+     * @param layers Layers, from the lowest priority to the highest.
+     *  Null layers are ignored.
+     */
+    public LayeredYamlMapping(final List<YamlMapping> layers) {
+        this.layers = layers.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        if(this.layers.isEmpty()) {
+            throw new IllegalArgumentException(
+                "At least one layer must be given!"
+            );
+        }
+        this.resolved = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Set<YamlNode> keys() {
+        Set<YamlNode> all = this.keys;
+        if(all == null) {
+            all = new LinkedHashSet<>();
+            for(final YamlMapping layer : this.layers) {
+                all.addAll(layer.keys());
+            }
+            all = Collections.unmodifiableSet(all);
+            this.keys = all;
+        }
+        return new LinkedHashSet<>(all);
+    }
+
+    @Override
+    public YamlNode value(final YamlNode key) {
+        YamlNode value = this.resolved.get(key);
+        if(value == null) {
+            value = this.resolve(key);
+            if(value != null) {
+                this.resolved.putIfAbsent(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Comment comment() {
+        Comment comment = this.layers.get(0).comment();
+        for(final YamlMapping layer : this.layers) {
+            if(!layer.comment().value().isEmpty()) {
+                comment = layer.comment();
+            }
+        }
+        return comment;
+    }
+
+    /**
+     * Resolve the value of a key, going through the layers.
+     * @param key Key.
+     * @return Value, or null if no layer has the key.
+     */
+    private YamlNode resolve(final YamlNode key) {
+        final List<YamlMapping> mappings = new ArrayList<>();
+        YamlNode result = null;
+        for(final YamlMapping layer : this.layers) {
+            final YamlNode value = layer.value(key);
+            if(value instanceof YamlMapping) {
+                if(!(result instanceof YamlMapping)) {
+                    mappings.clear();
+                }
+                mappings.add((YamlMapping) value);
+                result = value;
+            } else if(value instanceof YamlSequence
+                && result instanceof YamlSequence) {
+                result = LayeredYamlMapping.merged(
+                    (YamlSequence) result, (YamlSequence) value
+                );
+            } else if(value != null) {
+                result = value;
+            }
+        }
+        if(result instanceof YamlMapping && mappings.size() > 1) {
+            result = new LayeredYamlMapping(mappings);
+        }
+        return result;
+    }
+
+    /**
+     * Merge two sequences: the lower one, followed by the elements of the
+     * higher one which are not in the lower one. The lookup is hash-based.
+     * @param lower Sequence from a lower layer.
+     * @param higher Sequence from a higher layer.
+     * @return Merged YamlSequence.
+     */
+    private static YamlSequence merged(
+        final YamlSequence lower, final YamlSequence higher
+    ) {
+        final List<YamlNode> elements = new ArrayList<>(lower.values());
+        final Set<YamlNode> existing = new HashSet<>(elements);
+        for(final YamlNode node : higher.values()) {
+            if(!existing.contains(node)) {
+                elements.add(node);
+            }
+        }
+        final Comment comment;
+        if(higher.comment().value().isEmpty()) {
+            comment = lower.comment();
+        } else {
+            comment = higher.comment();
+        }
+        return Yaml.createYamlSequenceBuilder()
+            .addAll(elements)
+            .build(comment.value());
+    }
+}
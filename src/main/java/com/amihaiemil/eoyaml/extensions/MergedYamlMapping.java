@@ -29,6 +29,9 @@ package com.amihaiemil.eoyaml.extensions;
 
 import com.amihaiemil.eoyaml.*;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -50,6 +53,9 @@ import java.util.function.Supplier;
  *         true|false
  *     );
  * </pre>
+ * The merged mapping is built eagerly, in the constructor. To layer
+ * more mappings and resolve each key only when it is read,
+ * see {@link LayeredYamlMapping}.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 4.1.0
@@ -131,6 +137,11 @@ public final class MergedYamlMapping extends BaseYamlMapping {
         return this.merged.value(key);
     }
 
+    @Override
+    public Set<Map.Entry<YamlNode, YamlNode>> entries() {
+        return this.merged.entries();
+    }
+
     @Override
     public Comment comment() {
         return this.merged.comment();
@@ -176,10 +187,14 @@ public final class MergedYamlMapping extends BaseYamlMapping {
     ) {
         YamlMappingBuilder originalBuilder = this
             .yamlMappingBuilderFrom(original);
-        final Set<YamlNode> changedKeys = changed.keys();
-        for(final YamlNode key : changedKeys) {
-            final YamlNode originalValue = original.value(key);
-            final YamlNode changedValue = changed.value(key);
+        final Map<YamlNode, YamlNode> originals = new HashMap<>();
+        for(final Map.Entry<YamlNode, YamlNode> entry : original.entries()) {
+            originals.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        for(final Map.Entry<YamlNode, YamlNode> entry : changed.entries()) {
+            final YamlNode key = entry.getKey();
+            final YamlNode originalValue = originals.get(key);
+            final YamlNode changedValue = entry.getValue();
             if (changedValue instanceof YamlMapping
                 && originalValue instanceof YamlMapping) {
                 originalBuilder = originalBuilder.add(
@@ -197,8 +212,11 @@ public final class MergedYamlMapping extends BaseYamlMapping {
                 final YamlSequence changedSeq = (YamlSequence) changedValue;
                 YamlSequenceBuilder originalSeqBuilder = this
                     .yamlSequenceBuilderFrom(originalSeq);
+                final Set<YamlNode> existing = new HashSet<>(
+                    originalSeq.values()
+                );
                 for (final YamlNode node : changedSeq.values()) {
-                    if (!originalSeq.values().contains(node)) {
+                    if (!existing.contains(node)) {
                         originalSeqBuilder = originalSeqBuilder.add(node);
                     }
                 }
@@ -260,8 +278,8 @@ public final class MergedYamlMapping extends BaseYamlMapping {
     ) {
         YamlMappingBuilder builder = Yaml
             .createYamlMappingBuilder();
-        for (final YamlNode key : source.keys()) {
-            builder = builder.add(key, source.value(key));
+        for (final Map.Entry<YamlNode, YamlNode> entry : source.entries()) {
+            builder = builder.add(entry.getKey(), entry.getValue());
         }
         return builder;
     }
@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.Scalar;
+import com.amihaiemil.eoyaml.YamlNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One change found by {@link YamlDiff}. The path leads from the root node
+ * to the changed node: its elements are the keys (YamlNode) of mappings
+ * and the indices (Integer) of sequences. Sequence indices always refer
+ * to the positions in the original sequence; an added element is inserted
+ * before the original element at its index. An added key is inserted
+ * right after the key returned by {@link #previous()}, so the keys keep
+ * the order of the changed mapping.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class YamlChange {
+
+    /**
+     * Kinds of changes.
+     */
+    public enum Kind {
+        /**
+         * A key or element was added.
+         */
+        ADDED,
+
+        /**
+         * A key or element was removed.
+         */
+        REMOVED,
+
+        /**
+         * A value was replaced.
+         */
+        CHANGED
+    }
+
+    /**
+     * Kind of change.
+     */
+    private final Kind kind;
+
+    /**
+     * Path to the changed node.
+     */
+    private final List<Object> path;
+
+    /**
+     * Node before the change, null if it was added.
+     */
+    private final YamlNode before;
+
+    /**
+     * Node after the change, null if it was removed.
+     */
+    private final YamlNode after;
+
+    /**
+     * Key preceding an added key in the changed mapping, null if there is
+     * none.
+     */
+    private final YamlNode previous;
+
+    /**
+     * Constructor.
+     * @param kind Kind of change.
+     * @param path Path to the changed node.
+     * @param before Node before the change.
+     * @param after Node after the change.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    YamlChange(
+        final Kind kind,
+        final List<Object> path,
+        final YamlNode before,
+        final YamlNode after
+    ) {
+        this(kind, path, before, after, null);
+    }
+
+    /**
+     * Constructor.
+     * @param kind Kind of change.
+     * @param path Path to the changed node.
+     * @param before Node before the change.
+     * @param after Node after the change.
+     * @param previous Key preceding an added key.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    YamlChange(
+        final Kind kind,
+        final List<Object> path,
+        final YamlNode before,
+        final YamlNode after,
+        final YamlNode previous
+    ) {
+        this.kind = kind;
+        this.path = Collections.unmodifiableList(new ArrayList<>(path));
+        this.before = before;
+        this.after = after;
+        this.previous = previous;
+    }
+
+    /**
+     * Kind of change.
+     * @return Kind.
+     */
+    public Kind kind() {
+        return this.kind;
+    }
+
+    /**
+     * Path to the changed node: keys (YamlNode) and indices (Integer).
+     * The path of a change to the root node is empty.
+     * @return Unmodifiable List.
+     */
+    public List<Object> path() {
+        return this.path;
+    }
+
+    /**
+     * Node before the change.
+     * @return YamlNode or null, if it was added.
+     */
+    public YamlNode before() {
+        return this.before;
+    }
+
+    /**
+     * Node after the change.
+     * @return YamlNode or null, if it was removed.
+     */
+    public YamlNode after() {
+        return this.after;
+    }
+
+    /**
+     * Key preceding the added key in the changed mapping.
+     * @return YamlNode or null, if the key comes first or this is not
+     *  a key added to a mapping.
+     */
+    public YamlNode previous() {
+        return this.previous;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(this.kind.name())
+            .append(' ');
+        if(this.path.isEmpty()) {
+            text.append('/');
+        }
+        for(final Object step : this.path) {
+            text.append('/');
+            if(step instanceof Scalar) {
+                text.append(((Scalar) step).value());
+            } else {
+                text.append(step);
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,744 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlMappingBuilder;
+import com.amihaiemil.eoyaml.YamlNode;
+import com.amihaiemil.eoyaml.YamlSequence;
+import com.amihaiemil.eoyaml.YamlSequenceBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural difference between two YamlNodes, as a list of
+ * {@link YamlChange}s:
+ * <pre>
+ *     final YamlDiff diff = new YamlDiff(current, next);
+ *     for(final YamlChange change : diff) {
+ *         System.out.println(change);
+ *     }
+ *     final YamlNode patched = diff.apply(current);
+ * </pre>
+ * Mappings are compared key by key; the keys moved to another place are
+ * removed and added again, so the patched mapping keeps the order of the
+ * changed one. Sequences are compared after removing
+ * their common start and end: the rest is matched with a longest common
+ * subsequence or, if it is too large, index by index. Equal subtrees are
+ * skipped as soon as they are found equal: nodes read or built by this
+ * library cache their hashes, so different subtrees are told apart
+ * without walking them.<br><br>
+ * Comments are not compared. The patched tree shares all the unchanged
+ * subtrees with the original one.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class YamlDiff implements Iterable<YamlChange> {
+
+    /**
+     * Maximum number of cells in the table of the longest common
+     * subsequence. Larger sequences are compared index by index.
+     */
+    private static final long LCS_LIMIT = 1_000_000L;
+
+    /**
+     * Original node.
+     */
+    private final YamlNode before;
+
+    /**
+     * Changed node.
+     */
+    private final YamlNode after;
+
+    /**
+     * Changes, found only once.
+     */
+    private volatile List<YamlChange> changes;
+
+    /**
+     * Constructor.
+     * @param before Original node.
+     * @param after Changed node.
+     */
+    public YamlDiff(final YamlNode before, final YamlNode after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * The changes which turn the original node into the changed one.
+     * @return Unmodifiable List of changes.
+     */
+    public List<YamlChange> changes() {
+        List<YamlChange> found = this.changes;
+        if(found == null) {
+            final Walk walk = new Walk();
+            walk.diff(this.before, this.after);
+            found = Collections.unmodifiableList(walk.changes);
+            this.changes = found;
+        }
+        return found;
+    }
+
+    /**
+     * Are the two nodes equal?
+     * @return True if there are no changes, false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.changes().isEmpty();
+    }
+
+    @Override
+    public Iterator<YamlChange> iterator() {
+        return this.changes().iterator();
+    }
+
+    /**
+     * Apply the changes to the given node (usually, the original one).
+     * The unchanged subtrees are not copied.
+     * @param base Node to patch.
+     * @return Patched node.
+     * @throws IllegalStateException If the changes do not fit the node.
+     */
+    public YamlNode apply(final YamlNode base) {
+        final Patch root = new Patch();
+        for(final YamlChange change : this.changes()) {
+            root.add(change);
+        }
+        return root.applied(base);
+    }
+
+    /**
+     * Are the two nodes equal? Hashes are compared first.
+     * @param left Node.
+     * @param right Other node.
+     * @return True or false.
+     */
+    private static boolean same(final YamlNode left, final YamlNode right) {
+        final boolean same;
+        if(left == right) {
+            same = true;
+        } else if(left == null || right == null) {
+            same = false;
+        } else {
+            same = left.hashCode() == right.hashCode() && left.equals(right);
+        }
+        return same;
+    }
+
+    /**
+     * Walk over two trees, collecting the changes.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class Walk {
+
+        /**
+         * Changes found.
+         */
+        private final List<YamlChange> changes = new ArrayList<>();
+
+        /**
+         * Path to the nodes being compared.
+         */
+        private final List<Object> path = new ArrayList<>();
+
+        /**
+         * Compare two nodes.
+         * @param left Original node.
+         * @param right Changed node.
+         */
+        void diff(final YamlNode left, final YamlNode right) {
+            if(!YamlDiff.same(left, right)) {
+                if(left instanceof YamlMapping
+                    && right instanceof YamlMapping) {
+                    this.mappings((YamlMapping) left, (YamlMapping) right);
+                } else if(left instanceof YamlSequence
+                    && right instanceof YamlSequence) {
+                    this.sequences((YamlSequence) left, (YamlSequence) right);
+                } else {
+                    this.record(YamlChange.Kind.CHANGED, left, right);
+                }
+            }
+        }
+
+        /**
+         * Compare two mappings, key by key. The kept keys which changed
+         * their order, except for the longest run in the original order,
+         * are removed and added again after their preceding keys.
+         * @param left Original mapping.
+         * @param right Changed mapping.
+         */
+        private void mappings(final YamlMapping left, final YamlMapping right) {
+            final List<Map.Entry<YamlNode, YamlNode>> lefts = new ArrayList<>(
+                left.entries()
+            );
+            final List<Map.Entry<YamlNode, YamlNode>> rights = new ArrayList<>(
+                right.entries()
+            );
+            final int[] order = Walk.positions(lefts, rights);
+            final boolean[] stays = Walk.increasing(order);
+            final Set<YamlNode> kept = new HashSet<>();
+            YamlNode previous = null;
+            for(int idx = 0; idx < rights.size(); ++idx) {
+                final YamlNode key = rights.get(idx).getKey();
+                final YamlNode value = rights.get(idx).getValue();
+                this.path.add(key);
+                if(stays[idx]) {
+                    kept.add(key);
+                    this.diff(lefts.get(order[idx]).getValue(), value);
+                } else {
+                    this.changes.add(
+                        new YamlChange(
+                            YamlChange.Kind.ADDED, this.path,
+                            null, value, previous
+                        )
+                    );
+                }
+                this.path.remove(this.path.size() - 1);
+                previous = key;
+            }
+            for(final Map.Entry<YamlNode, YamlNode> entry : lefts) {
+                if(!kept.contains(entry.getKey())) {
+                    this.path.add(entry.getKey());
+                    this.record(
+                        YamlChange.Kind.REMOVED, entry.getValue(), null
+                    );
+                    this.path.remove(this.path.size() - 1);
+                }
+            }
+        }
+
+        /**
+         * Positions of the changed keys in the original mapping.
+         * @param lefts Original entries.
+         * @param rights Changed entries.
+         * @return Position of each changed key, -1 if it is new.
+         */
+        private static int[] positions(
+            final List<Map.Entry<YamlNode, YamlNode>> lefts,
+            final List<Map.Entry<YamlNode, YamlNode>> rights
+        ) {
+            final Map<YamlNode, Integer> positions = new HashMap<>();
+            for(int idx = 0; idx < lefts.size(); ++idx) {
+                positions.putIfAbsent(lefts.get(idx).getKey(), idx);
+            }
+            final int[] order = new int[rights.size()];
+            for(int idx = 0; idx < rights.size(); ++idx) {
+                final Integer position = positions.get(
+                    rights.get(idx).getKey()
+                );
+                if(position == null) {
+                    order[idx] = -1;
+                } else {
+                    order[idx] = position;
+                }
+            }
+            return order;
+        }
+
+        /**
+         * Longest strictly increasing run of the given positions, skipping
+         * the negative ones.
+         * @param order Positions.
+         * @return Flags of the positions in the run.
+         */
+        private static boolean[] increasing(final int[] order) {
+            final int[] tails = new int[order.length];
+            final int[] parents = new int[order.length];
+            int length = 0;
+            for(int idx = 0; idx < order.length; ++idx) {
+                if(order[idx] >= 0) {
+                    final int low = Walk.tail(order, tails, length, idx);
+                    if(low > 0) {
+                        parents[idx] = tails[low - 1];
+                    } else {
+                        parents[idx] = -1;
+                    }
+                    tails[low] = idx;
+                    if(low == length) {
+                        length = length + 1;
+                    }
+                }
+            }
+            final boolean[] stays = new boolean[order.length];
+            if(length > 0) {
+                int idx = tails[length - 1];
+                while(idx >= 0) {
+                    stays[idx] = true;
+                    idx = parents[idx];
+                }
+            }
+            return stays;
+        }
+
+        /**
+         * Length of the longest run which the given position can extend.
+         * @param order Positions.
+         * @param tails Index of the smallest last position of each run,
+         *  by the run's length minus one.
+         * @param length Number of runs.
+         * @param idx Index of the position.
+         * @return Length of the run.
+         * @checkstyle ParameterNumber (10 lines)
+         */
+        private static int tail(
+            final int[] order,
+            final int[] tails,
+            final int length,
+            final int idx
+        ) {
+            int low = 0;
+            int high = length;
+            while(low < high) {
+                final int mid = (low + high) >>> 1;
+                if(order[tails[mid]] < order[idx]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Compare two sequences. The common start and end are skipped, the
+         * rest is matched with a longest common subsequence or, if it is
+         * too large, index by index.
+         * @param left Original sequence.
+         * @param right Changed sequence.
+         */
+        private void sequences(
+            final YamlSequence left, final YamlSequence right
+        ) {
+            final List<YamlNode> lefts = new ArrayList<>(left.values());
+            final List<YamlNode> rights = new ArrayList<>(right.values());
+            int start = 0;
+            while(start < lefts.size() && start < rights.size()
+                && YamlDiff.same(lefts.get(start), rights.get(start))) {
+                start = start + 1;
+            }
+            int end = 0;
+            while(end < lefts.size() - start && end < rights.size() - start
+                && YamlDiff.same(
+                    lefts.get(lefts.size() - 1 - end),
+                    rights.get(rights.size() - 1 - end)
+                )) {
+                end = end + 1;
+            }
+            final List<YamlNode> removed = lefts.subList(
+                start, lefts.size() - end
+            );
+            final List<YamlNode> added = rights.subList(
+                start, rights.size() - end
+            );
+            if((long) removed.size() * added.size() <= YamlDiff.LCS_LIMIT) {
+                this.matched(removed, added, start);
+            } else {
+                this.replaced(removed, added, start);
+            }
+        }
+
+        /**
+         * Match the elements with a longest common subsequence. Between two
+         * matches, the removed and added elements are paired and compared,
+         * the remaining ones are removed or added.
+         * @param lefts Original elements.
+         * @param rights Changed elements.
+         * @param offset Index of the first original element.
+         */
+        private void matched(
+            final List<YamlNode> lefts,
+            final List<YamlNode> rights,
+            final int offset
+        ) {
+            final int[][] lcs = Walk.lcs(lefts, rights);
+            int row = 0;
+            int col = 0;
+            int fromRow = 0;
+            int fromCol = 0;
+            while(row < lefts.size() && col < rights.size()) {
+                if(lcs[row][col] == lcs[row + 1][col + 1] + 1
+                    && YamlDiff.same(lefts.get(row), rights.get(col))) {
+                    this.replaced(
+                        lefts.subList(fromRow, row),
+                        rights.subList(fromCol, col),
+                        offset + fromRow
+                    );
+                    row = row + 1;
+                    col = col + 1;
+                    fromRow = row;
+                    fromCol = col;
+                } else if(lcs[row + 1][col] >= lcs[row][col + 1]) {
+                    row = row + 1;
+                } else {
+                    col = col + 1;
+                }
+            }
+            this.replaced(
+                lefts.subList(fromRow, lefts.size()),
+                rights.subList(fromCol, rights.size()),
+                offset + fromRow
+            );
+        }
+
+        /**
+         * Compare the elements which replaced each other, in order. An
+         * element is compared to one of the same type; the extra elements
+         * are removed or added.
+         * @param lefts Original elements.
+         * @param rights Changed elements.
+         * @param offset Index of the first original element.
+         */
+        private void replaced(
+            final List<YamlNode> lefts,
+            final List<YamlNode> rights,
+            final int offset
+        ) {
+            int row = 0;
+            int col = 0;
+            while(row < lefts.size() || col < rights.size()) {
+                final int extra = rights.size() - col - lefts.size() + row;
+                this.path.add(offset + row);
+                if(extra > 0 && (row == lefts.size()
+                    || !Walk.similar(lefts.get(row), rights.get(col)))) {
+                    this.record(YamlChange.Kind.ADDED, null, rights.get(col));
+                    col = col + 1;
+                } else if(extra < 0 && (col == rights.size()
+                    || !Walk.similar(lefts.get(row), rights.get(col)))) {
+                    this.record(YamlChange.Kind.REMOVED, lefts.get(row), null);
+                    row = row + 1;
+                } else {
+                    this.diff(lefts.get(row), rights.get(col));
+                    row = row + 1;
+                    col = col + 1;
+                }
+                this.path.remove(this.path.size() - 1);
+            }
+        }
+
+        /**
+         * Are the two nodes of the same type?
+         * @param left Node.
+         * @param right Other node.
+         * @return True or false.
+         */
+        private static boolean similar(
+            final YamlNode left, final YamlNode right
+        ) {
+            return left != null && right != null
+                && left.type().equals(right.type());
+        }
+
+        /**
+         * Record a change at the current path.
+         * @param kind Kind of change.
+         * @param left Original node.
+         * @param right Changed node.
+         */
+        private void record(
+            final YamlChange.Kind kind,
+            final YamlNode left,
+            final YamlNode right
+        ) {
+            this.changes.add(new YamlChange(kind, this.path, left, right));
+        }
+
+        /**
+         * Table of the longest common subsequences: cell [i][j] is the
+         * length of the longest common subsequence of lefts, from i, and
+         * rights, from j.
+         * @param lefts Original elements.
+         * @param rights Changed elements.
+         * @return Table.
+         */
+        private static int[][] lcs(
+            final List<YamlNode> lefts, final List<YamlNode> rights
+        ) {
+            final int[] hashes = new int[rights.size()];
+            for(int col = 0; col < rights.size(); ++col) {
+                hashes[col] = rights.get(col).hashCode();
+            }
+            final int[][] lcs = new int[lefts.size() + 1][rights.size() + 1];
+            for(int row = lefts.size() - 1; row >= 0; --row) {
+                final YamlNode left = lefts.get(row);
+                final int hash = left.hashCode();
+                for(int col = rights.size() - 1; col >= 0; --col) {
+                    if(hash == hashes[col] && left.equals(rights.get(col))) {
+                        lcs[row][col] = lcs[row + 1][col + 1] + 1;
+                    } else {
+                        lcs[row][col] = Math.max(
+                            lcs[row + 1][col], lcs[row][col + 1]
+                        );
+                    }
+                }
+            }
+            return lcs;
+        }
+    }
+
+    /**
+     * Changes of a node, arranged as a tree following their paths.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 8.0.7
+     */
+    private static final class Patch {
+
+        /**
+         * Removal or replacement of this node, if any.
+         */
+        private YamlChange change;
+
+        /**
+         * Changes of the children, by key or index.
+         */
+        private final Map<Object, Patch> children = new LinkedHashMap<>();
+
+        /**
+         * Children added to this node, in order.
+         */
+        private final List<YamlChange> added = new ArrayList<>();
+
+        /**
+         * Add a change, following its path.
+         * @param item Change.
+         */
+        void add(final YamlChange item) {
+            final List<Object> path = item.path();
+            Patch patch = this;
+            for(int idx = 0; idx < path.size() - 1; ++idx) {
+                patch = patch.children.computeIfAbsent(
+                    path.get(idx), step -> new Patch()
+                );
+            }
+            if(path.isEmpty()) {
+                this.change = item;
+            } else if(item.kind() == YamlChange.Kind.ADDED) {
+                patch.added.add(item);
+            } else {
+                patch.children.computeIfAbsent(
+                    path.get(path.size() - 1), step -> new Patch()
+                ).change = item;
+            }
+        }
+
+        /**
+         * Apply the changes to a node.
+         * @param base Node.
+         * @return Patched node.
+         */
+        YamlNode applied(final YamlNode base) {
+            final YamlNode patched;
+            if(this.change != null) {
+                patched = this.change.after();
+            } else if(this.children.isEmpty() && this.added.isEmpty()) {
+                patched = base;
+            } else if(base instanceof YamlMapping) {
+                patched = this.mapping((YamlMapping) base);
+            } else if(base instanceof YamlSequence) {
+                patched = this.sequence((YamlSequence) base);
+            } else {
+                throw new IllegalStateException(
+                    "The changes cannot be applied to a scalar: " + base
+                );
+            }
+            return patched;
+        }
+
+        /**
+         * Apply the changes to a mapping. Each added key comes right after
+         * its preceding key.
+         * @param base Mapping.
+         * @return Patched mapping.
+         */
+        private YamlMapping mapping(final YamlMapping base) {
+            YamlMappingBuilder builder = Yaml.createMutableYamlMappingBuilder(
+                base.keys().size() + this.added.size()
+            );
+            final Map<YamlNode, YamlChange> following = new HashMap<>();
+            for(final YamlChange addition : this.added) {
+                following.put(addition.previous(), addition);
+            }
+            builder = Patch.following(builder, null, following);
+            int found = 0;
+            for(final Map.Entry<YamlNode, YamlNode> entry : base.entries()) {
+                final Patch patch = this.children.get(entry.getKey());
+                if(patch == null) {
+                    builder = Patch.following(
+                        builder.add(entry.getKey(), entry.getValue()),
+                        entry.getKey(), following
+                    );
+                } else {
+                    found = found + 1;
+                    if(!patch.removes()) {
+                        builder = Patch.following(
+                            builder.add(
+                                entry.getKey(),
+                                patch.applied(entry.getValue())
+                            ),
+                            entry.getKey(), following
+                        );
+                    }
+                }
+            }
+            this.check(found);
+            if(!following.isEmpty()) {
+                throw new IllegalStateException(
+                    "Keys added after keys which are not in the mapping: "
+                    + following.values()
+                );
+            }
+            return builder.build(base.comment().value());
+        }
+
+        /**
+         * Add the keys which follow the given key, one after the other.
+         * @param builder Builder of the patched mapping.
+         * @param key Key already added, null at the start of the mapping.
+         * @param following Added keys, by their preceding keys.
+         * @return Builder.
+         */
+        private static YamlMappingBuilder following(
+            final YamlMappingBuilder builder,
+            final YamlNode key,
+            final Map<YamlNode, YamlChange> following
+        ) {
+            YamlMappingBuilder result = builder;
+            YamlChange next = following.remove(key);
+            while(next != null) {
+                final List<Object> path = next.path();
+                final YamlNode added = (YamlNode) path.get(path.size() - 1);
+                result = result.add(added, next.after());
+                next = following.remove(added);
+            }
+            return result;
+        }
+
+        /**
+         * Apply the changes to a sequence.
+         * @param base Sequence.
+         * @return Patched sequence.
+         */
+        private YamlSequence sequence(final YamlSequence base) {
+            final List<YamlNode> elements = new ArrayList<>(base.values());
+            YamlSequenceBuilder builder = Yaml.createMutableYamlSequenceBuilder(
+                elements.size() + this.added.size()
+            );
+            final Iterator<YamlChange> inserted = this.added.iterator();
+            YamlChange next = Patch.next(inserted);
+            int found = 0;
+            for(int idx = 0; idx <= elements.size(); ++idx) {
+                while(next != null && Patch.index(next) <= idx) {
+                    builder = builder.add(next.after());
+                    next = Patch.next(inserted);
+                }
+                if(idx < elements.size()) {
+                    final Patch patch = this.children.get(idx);
+                    if(patch == null) {
+                        builder = builder.add(elements.get(idx));
+                    } else {
+                        found = found + 1;
+                        if(!patch.removes()) {
+                            builder = builder.add(
+                                patch.applied(elements.get(idx))
+                            );
+                        }
+                    }
+                }
+            }
+            this.check(found);
+            if(next != null) {
+                throw new IllegalStateException(
+                    "Element added outside of the sequence: " + next
+                );
+            }
+            return builder.build(base.comment().value());
+        }
+
+        /**
+         * Does this patch remove its node?
+         * @return True or false.
+         */
+        private boolean removes() {
+            return this.change != null
+                && this.change.kind() == YamlChange.Kind.REMOVED;
+        }
+
+        /**
+         * Check that all the changed children were found in the node.
+         * @param found Number of changed children found.
+         */
+        private void check(final int found) {
+            if(found != this.children.size()) {
+                throw new IllegalStateException(
+                    "The changes do not fit the node: "
+                    + (this.children.size() - found)
+                    + " changed children were not found."
+                );
+            }
+        }
+
+        /**
+         * Next added element, if any.
+         * @param inserted Added elements.
+         * @return YamlChange or null.
+         */
+        private static YamlChange next(final Iterator<YamlChange> inserted) {
+            final YamlChange next;
+            if(inserted.hasNext()) {
+                next = inserted.next();
+            } else {
+                next = null;
+            }
+            return next;
+        }
+
+        /**
+         * Index where an element is added.
+         * @param addition Addition.
+         * @return Index.
+         */
+        private static int index(final YamlChange addition) {
+            final List<Object> path = addition.path();
+            return (Integer) path.get(path.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BuiltYamlDump}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class BuiltYamlDumpTest {
+
+    /**
+     * BuiltYamlDump converts plain values into plain scalars.
+     */
+    @Test
+    public void dumpsScalars() {
+        MatcherAssert.assertThat(
+            new BuiltYamlDump("text").dumpScalar().value(),
+            Matchers.equalTo("text")
+        );
+        MatcherAssert.assertThat(
+            new BuiltYamlDump(12L).dumpScalar().value(),
+            Matchers.equalTo("12")
+        );
+        MatcherAssert.assertThat(
+            new BuiltYamlDump(new char[] {'a', 'b'}).dumpScalar().value(),
+            Matchers.equalTo("ab")
+        );
+        MatcherAssert.assertThat(
+            new BuiltYamlDump(LocalDate.of(2024, 1, 2)).dumpScalar("date")
+                .comment().value(),
+            Matchers.equalTo("date")
+        );
+        MatcherAssert.assertThat(
+            new BuiltYamlDump(null).dumpScalar().value(),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * BuiltYamlDump converts Maps, Collections and arrays into immutable
+     * built nodes.
+     */
+    @Test
+    public void dumpsCollections() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "eo-yaml");
+        map.put("versions", Arrays.asList(1, 2));
+        map.put("flags", new boolean[] {true, false});
+        final Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("key", "value");
+        map.put("nested", nested);
+        final YamlMapping mapping = new BuiltYamlDump(map).dumpMapping();
+        MatcherAssert.assertThat(
+            mapping, Matchers.instanceOf(RtYamlMapping.class)
+        );
+        MatcherAssert.assertThat(
+            mapping.yamlSequence("versions").integer(1), Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+            mapping.yamlSequence("flags").bool(0), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            mapping.yamlMapping("nested").string("key"),
+            Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(
+            ((BaseYamlNode) mapping).immutable(), Matchers.is(true)
+        );
+    }
+
+    /**
+     * BuiltYamlDump uses reflection only for other Objects.
+     */
+    @Test
+    public void dumpsBeansWithReflection() {
+        final YamlSequence sequence = new BuiltYamlDump(
+            Arrays.asList(new Version(1, 2))
+        ).dumpSequence();
+        MatcherAssert.assertThat(
+            sequence.yamlMapping(0),
+            Matchers.instanceOf(ReflectedYamlMapping.class)
+        );
+        MatcherAssert.assertThat(
+            sequence.yamlMapping(0).integer("minor"), Matchers.is(2)
+        );
+    }
+
+    /**
+     * Simple bean, for test.
+     * @checkstyle JavadocMethod (30 lines)
+     */
+    static final class Version {
+
+        /**
+         * Major version.
+         */
+        private final int major;
+
+        /**
+         * Minor version.
+         */
+        private final int minor;
+
+        Version(final int major, final int minor) {
+            this.major = major;
+            this.minor = minor;
+        }
+
+        public int getMajor() {
+            return this.major;
+        }
+
+        public int getMinor() {
+            return this.minor;
+        }
+    }
+}
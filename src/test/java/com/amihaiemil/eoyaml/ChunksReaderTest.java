@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.util.Arrays;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ChunksReader}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class ChunksReaderTest {
+
+    /**
+     * ChunksReader reads all the chunks, skipping the empty ones.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsAllChunks() throws IOException {
+        MatcherAssert.assertThat(
+            IOUtils.toString(
+                new ChunksReader(
+                    Arrays.asList("first ", "", "second ", "third").iterator()
+                )
+            ),
+            Matchers.equalTo("first second third")
+        );
+    }
+
+    /**
+     * ChunksReader reads into a buffer smaller than the chunks.
+     */
+    @Test
+    public void readsInSmallBuffer() {
+        final ChunksReader reader = new ChunksReader(
+            Arrays.asList("abc", "de").iterator()
+        );
+        final char[] buffer = new char[2];
+        MatcherAssert.assertThat(reader.read(buffer, 0, 2), Matchers.is(2));
+        MatcherAssert.assertThat(new String(buffer), Matchers.is("ab"));
+        MatcherAssert.assertThat(reader.read(buffer, 0, 2), Matchers.is(2));
+        MatcherAssert.assertThat(new String(buffer), Matchers.is("cd"));
+        MatcherAssert.assertThat(reader.read(buffer, 0, 2), Matchers.is(1));
+        MatcherAssert.assertThat(reader.read(buffer, 0, 2), Matchers.is(-1));
+    }
+
+    /**
+     * ChunksReader has nothing left to read once closed.
+     */
+    @Test
+    public void readsNothingAfterClose() {
+        final ChunksReader reader = new ChunksReader(
+            Arrays.asList("abc", "de").iterator()
+        );
+        reader.close();
+        MatcherAssert.assertThat(
+            reader.read(new char[2], 0, 2), Matchers.is(-1)
+        );
+    }
+}
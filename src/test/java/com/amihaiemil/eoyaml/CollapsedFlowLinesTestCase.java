@@ -65,7 +65,7 @@ public final class CollapsedFlowLinesTestCase {
         lines.add(new RtYamlLine("z]", 11));
 
         final YamlLines collapsed = new CollapsedFlowLines(
-            new AllYamlLines(lines), '[', ']'
+            new AllYamlLines(lines)
         );
         for(final YamlLine line : collapsed) {
             System.out.println(line);
@@ -126,7 +126,7 @@ public final class CollapsedFlowLinesTestCase {
         lines.add(new RtYamlLine("z: [x]}", 11));
 
         final YamlLines collapsed = new CollapsedFlowLines(
-            new AllYamlLines(lines), '{', '}'
+            new AllYamlLines(lines)
         );
         for(final YamlLine line : collapsed) {
             System.out.println(line);
@@ -177,7 +177,7 @@ public final class CollapsedFlowLinesTestCase {
         lines.add(new RtYamlLine("xyz, [y, u, u]]", 0));
 
         final YamlLines collapsed = new CollapsedFlowLines(
-            new AllYamlLines(lines), '[', ']'
+            new AllYamlLines(lines)
         );
         final Iterator<YamlLine> iterator = collapsed.iterator();
         MatcherAssert.assertThat(
@@ -200,7 +200,7 @@ public final class CollapsedFlowLinesTestCase {
         lines.add(new RtYamlLine("u: [a,v], w: [y, u, u]}", 0));
 
         final YamlLines collapsed = new CollapsedFlowLines(
-            new AllYamlLines(lines), '{', '}'
+            new AllYamlLines(lines)
         );
         final Iterator<YamlLine> iterator = collapsed.iterator();
         MatcherAssert.assertThat(
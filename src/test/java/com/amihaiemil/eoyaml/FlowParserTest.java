@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FlowParser}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class FlowParserTest {
+
+    /**
+     * FlowParser can parse a flow mapping with nested flow nodes.
+     */
+    @Test
+    public void parsesNestedMapping() {
+        final Map<YamlNode, YamlNode> entries = FlowParserTest.parser(
+            "key: {a: b, seq: [1, 2, {c: d}], map: {e: f}}"
+        ).mapping();
+        MatcherAssert.assertThat(entries.size(), Matchers.equalTo(3));
+        final Iterator<YamlNode> keys = entries.keySet().iterator();
+        MatcherAssert.assertThat(
+            keys.next().asScalar().value(), Matchers.equalTo("a")
+        );
+        MatcherAssert.assertThat(
+            keys.next().asScalar().value(), Matchers.equalTo("seq")
+        );
+        MatcherAssert.assertThat(
+            keys.next().asScalar().value(), Matchers.equalTo("map")
+        );
+        final YamlSequence seq = entries.get(
+            new PlainStringScalar("seq")
+        ).asSequence();
+        MatcherAssert.assertThat(seq, Matchers.instanceOf(
+            ReadFlowSequence.class
+        ));
+        MatcherAssert.assertThat(seq.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(
+            seq.yamlMapping(2).string("c"), Matchers.equalTo("d")
+        );
+        final YamlMapping map = entries.get(
+            new PlainStringScalar("map")
+        ).asMapping();
+        MatcherAssert.assertThat(map, Matchers.instanceOf(
+            ReadFlowMapping.class
+        ));
+        MatcherAssert.assertThat(map.string("e"), Matchers.equalTo("f"));
+    }
+
+    /**
+     * FlowParser does not split escaped values.
+     */
+    @Test
+    public void keepsEscapedValues() {
+        final List<YamlNode> elements = FlowParserTest.parser(
+            "[\"a, [b]\", 'it''s, {c}', \"say \\\"hi\\\", ok\", d]"
+        ).sequence();
+        MatcherAssert.assertThat(elements.size(), Matchers.equalTo(4));
+        MatcherAssert.assertThat(
+            elements.get(0).asScalar().value(),
+            Matchers.equalTo("a, [b]")
+        );
+        MatcherAssert.assertThat(
+            elements.get(1).asScalar().value(),
+            Matchers.equalTo("it''s, {c}")
+        );
+        MatcherAssert.assertThat(
+            elements.get(2).asScalar().value(),
+            Matchers.equalTo("say \\\"hi\\\", ok")
+        );
+        MatcherAssert.assertThat(
+            elements.get(3).asScalar().value(),
+            Matchers.equalTo("d")
+        );
+    }
+
+    /**
+     * FlowParser splits the key from the value at the first colon only.
+     */
+    @Test
+    public void splitsKeyAtFirstColon() {
+        final Map<YamlNode, YamlNode> entries = FlowParserTest.parser(
+            "{url: http://localhost:8080, \"a:b\": c}"
+        ).mapping();
+        MatcherAssert.assertThat(
+            entries.get(new PlainStringScalar("url")).asScalar().value(),
+            Matchers.equalTo("http://localhost:8080")
+        );
+        MatcherAssert.assertThat(
+            entries.get(new PlainStringScalar("a:b")).asScalar().value(),
+            Matchers.equalTo("c")
+        );
+    }
+
+    /**
+     * FlowParser can parse empty collections and trailing commas.
+     */
+    @Test
+    public void parsesEmptyAndTrailingComma() {
+        MatcherAssert.assertThat(
+            FlowParserTest.parser("[]").sequence(),
+            Matchers.emptyIterable()
+        );
+        MatcherAssert.assertThat(
+            FlowParserTest.parser("{ }").mapping().isEmpty(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            FlowParserTest.parser("[a, b, ]").sequence().size(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * FlowParser complains if a bracket is not closed.
+     */
+    @Test
+    public void complainsOnUnclosedBracket() {
+        try {
+            FlowParserTest.parser("[a, [b, c]").sequence();
+            Assert.fail("IllegalStateException was expected!");
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.equalTo(
+                    "Could not find closing bracket for flow node on line 1"
+                )
+            );
+        }
+    }
+
+    /**
+     * FlowParser complains if a mapping entry has no value.
+     */
+    @Test
+    public void complainsOnEntryWithoutColon() {
+        try {
+            FlowParserTest.parser("{a: b, c}").mapping();
+            Assert.fail("IllegalStateException was expected!");
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(),
+                Matchers.equalTo("Invalid flow YamlMapping!")
+            );
+        }
+    }
+
+    /**
+     * Create a FlowParser over one single line.
+     * @param flow Flow text.
+     * @return FlowParser.
+     */
+    private static FlowParser parser(final String flow) {
+        final YamlLine line = new RtYamlLine(flow, 0);
+        return new FlowParser(
+            line,
+            new YamlLine.NullYamlLine(),
+            new AllYamlLines(Arrays.asList(line))
+        );
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FlowSpans}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class FlowSpansTest {
+
+    /**
+     * FlowSpans pairs the outermost brackets of nested, mixed flow
+     * collections which span more than one line.
+     */
+    @Test
+    public void pairsOutermostBrackets() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("name: eo-yaml", 0));
+        lines.add(new RtYamlLine("developers: [", 1));
+        lines.add(new RtYamlLine("  {name: sherif,", 2));
+        lines.add(new RtYamlLine("   role: dev},", 3));
+        lines.add(new RtYamlLine("  amihaiemil]", 4));
+        lines.add(new RtYamlLine("tags: [yaml, java]", 5));
+        final FlowSpans spans = new FlowSpans(lines);
+        MatcherAssert.assertThat(
+            spans.end(lines.get(1)), Matchers.sameInstance(lines.get(4))
+        );
+        MatcherAssert.assertThat(spans.end(lines.get(0)), Matchers.nullValue());
+        MatcherAssert.assertThat(spans.end(lines.get(2)), Matchers.nullValue());
+        MatcherAssert.assertThat(spans.end(lines.get(5)), Matchers.nullValue());
+    }
+
+    /**
+     * FlowSpans ignores the brackets in quoted values and comments.
+     */
+    @Test
+    public void ignoresQuotedBracketsAndComments() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("key: [a, \"b]\",", 0));
+        lines.add(new RtYamlLine("# not a bracket ]", 1));
+        lines.add(new RtYamlLine("  'c]', d] # ]", 2));
+        lines.add(new RtYamlLine("other: it's", 3));
+        lines.add(new RtYamlLine("last: [", 4));
+        lines.add(new RtYamlLine("  x]", 5));
+        final FlowSpans spans = new FlowSpans(lines);
+        MatcherAssert.assertThat(
+            spans.end(lines.get(0)), Matchers.sameInstance(lines.get(2))
+        );
+        MatcherAssert.assertThat(
+            spans.end(lines.get(4)), Matchers.sameInstance(lines.get(5))
+        );
+    }
+
+    /**
+     * A quoted value whose continuation line starts with the closing
+     * quote is paired.
+     */
+    @Test
+    public void closesQuoteAtLineStart() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("key: [ \"a", 0));
+        lines.add(new RtYamlLine("  b", 1));
+        lines.add(new RtYamlLine("\", c ]", 2));
+        lines.add(new RtYamlLine("other: x", 3));
+        final FlowSpans spans = new FlowSpans(lines);
+        MatcherAssert.assertThat(
+            spans.end(lines.get(0)), Matchers.sameInstance(lines.get(2))
+        );
+        MatcherAssert.assertThat(spans.end(lines.get(3)), Matchers.nullValue());
+    }
+
+    /**
+     * FlowSpans marks a flow collection which is not closed.
+     */
+    @Test
+    public void marksUnclosedSpans() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("key: {a: b,", 0));
+        lines.add(new RtYamlLine("  c: d", 1));
+        MatcherAssert.assertThat(
+            new FlowSpans(lines).end(lines.get(0)),
+            Matchers.instanceOf(YamlLine.NullYamlLine.class)
+        );
+    }
+
+    /**
+     * CollapsedFlowLines complains about a flow collection which is not
+     * closed.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void unclosedSpanCannotBeCollapsed() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("key: {a: b,", 0));
+        lines.add(new RtYamlLine("  c: d", 1));
+        new CollapsedFlowLines(new AllYamlLines(lines)).iterator();
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link IndentedContent}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class IndentedContentTest {
+
+    /**
+     * IndentedContent indents every line, including the empty ones,
+     * and drops the trailing line separators.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void indentsLines() throws IOException {
+        final StringWriter writer = new StringWriter();
+        new IndentedContent(
+            new StringReader("first\r\n\r\n  second\r\nthird\r\n\r\n"),
+            2, "\r\n"
+        ).printTo(writer);
+        MatcherAssert.assertThat(
+            writer.toString(),
+            Matchers.equalTo("  first\r\n  \r\n    second\r\n  third")
+        );
+    }
+
+    /**
+     * IndentedContent keeps the chars of a line separator which is only
+     * partially matched.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void keepsPartialSeparators() throws IOException {
+        final StringWriter writer = new StringWriter();
+        new IndentedContent(
+            new StringReader("a\rb\r\nc\r"), 1, "\r\n"
+        ).printTo(writer);
+        MatcherAssert.assertThat(
+            writer.toString(), Matchers.equalTo(" a\rb\r\n c\r")
+        );
+    }
+
+    /**
+     * IndentedContent prints only the indentation of empty content.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void indentsEmptyContent() throws IOException {
+        final StringWriter writer = new StringWriter();
+        new IndentedContent(new StringReader(""), 2, "\n").printTo(writer);
+        MatcherAssert.assertThat(writer.toString(), Matchers.equalTo("  "));
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.StringWriter;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link IndentingWriter}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class IndentingWriterTest {
+
+    /**
+     * IndentingWriter indents each line with the current level.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void indentsLines() throws Exception {
+        final StringWriter result = new StringWriter();
+        final IndentingWriter out = new IndentingWriter(result, 2, "\n");
+        out.write("a:");
+        out.newLine();
+        out.indent();
+        out.write("b: c\nd: e");
+        out.newLine();
+        out.indent();
+        out.write("f");
+        out.unindent();
+        out.unindent();
+        out.newLine();
+        out.write("g");
+        MatcherAssert.assertThat(
+            result.toString(),
+            Matchers.equalTo("a:\n  b: c\n  d: e\n    f\ng")
+        );
+    }
+
+    /**
+     * IndentingWriter indents empty lines too.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void indentsEmptyLines() throws Exception {
+        final StringWriter result = new StringWriter();
+        final IndentingWriter out = new IndentingWriter(result, 2, "\r\n");
+        out.indent();
+        out.write("a\r\n\r\nb".toCharArray());
+        out.newLine();
+        out.mark();
+        MatcherAssert.assertThat(
+            result.toString(),
+            Matchers.equalTo("  a\r\n  \r\n  b\r\n  ")
+        );
+    }
+
+    /**
+     * IndentingWriter does not indent the first line at level 0.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void doesNotIndentLevelZero() throws Exception {
+        final StringWriter result = new StringWriter();
+        final IndentingWriter out = new IndentingWriter(result, 4, "\n");
+        out.write('x');
+        out.newLine();
+        out.write('y');
+        MatcherAssert.assertThat(
+            result.toString(), Matchers.equalTo("x\ny")
+        );
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LineComments}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class LineCommentsTest {
+
+    /**
+     * LineComments can find the comment-lines right above a line.
+     */
+    @Test
+    public void findsCommentAbove() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("# not this one", 0));
+        lines.add(new RtYamlLine("name: eo-yaml", 1));
+        lines.add(new RtYamlLine("# first line", 2));
+        lines.add(new RtYamlLine("%TAG ! tag:example.com,2000:", 3));
+        lines.add(new RtYamlLine("# second line", 4));
+        lines.add(new RtYamlLine("version: 8 # inline", 5));
+        lines.add(new RtYamlLine("# at the end", 6));
+        final LineComments comments = new LineComments(lines);
+        MatcherAssert.assertThat(
+            comments.above(5),
+            Matchers.equalTo(
+                "first line" + System.lineSeparator() + "second line"
+            )
+        );
+        MatcherAssert.assertThat(
+            comments.above(4), Matchers.equalTo("first line")
+        );
+        MatcherAssert.assertThat(
+            comments.above(1), Matchers.equalTo("not this one")
+        );
+        MatcherAssert.assertThat(comments.above(0), Matchers.isEmptyString());
+        MatcherAssert.assertThat(
+            comments.above(100), Matchers.equalTo("at the end")
+        );
+    }
+
+    /**
+     * LineComments can find the inline comment of a line.
+     */
+    @Test
+    public void findsInlineComment() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("name: eo-yaml", 0));
+        lines.add(new RtYamlLine("version: 8 # inline", 1));
+        final LineComments comments = new LineComments(lines);
+        MatcherAssert.assertThat(
+            comments.inline(1), Matchers.equalTo("inline")
+        );
+        MatcherAssert.assertThat(comments.inline(0), Matchers.isEmptyString());
+        MatcherAssert.assertThat(comments.inline(7), Matchers.isEmptyString());
+    }
+
+    /**
+     * LineComments works with lines which are not ordered by number.
+     */
+    @Test
+    public void worksWithUnorderedLines() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("other: value", 5));
+        lines.add(new RtYamlLine("# comment", 3));
+        lines.add(new RtYamlLine("key: value # inline", 4));
+        final LineComments comments = new LineComments(lines);
+        MatcherAssert.assertThat(
+            comments.above(4), Matchers.equalTo("comment")
+        );
+        MatcherAssert.assertThat(
+            comments.inline(4), Matchers.equalTo("inline")
+        );
+    }
+}
@@ -184,4 +184,22 @@ public final class MutableYamlMappingBuilderTest {
             );
         }
     }
+
+    /**
+     * A presized MutableYamlMappingBuilder builds large mappings.
+     */
+    @Test
+    public void buildsPresizedMapping() {
+        final YamlMappingBuilder builder = Yaml
+            .createMutableYamlMappingBuilder(1000);
+        for(int idx = 0; idx < 1000; ++idx) {
+            builder.add("key" + idx, idx);
+        }
+        final YamlMapping mapping = builder.build();
+        MatcherAssert.assertThat(
+            mapping.keys(), Matchers.iterableWithSize(1000)
+        );
+        MatcherAssert.assertThat(mapping.integer("key999"), Matchers.is(999));
+    }
+
 }
@@ -109,4 +109,20 @@ public final class MutableYamlSequenceBuilderTest {
             Matchers.equalTo("some test sequence")
         );
     }
+
+    /**
+     * A presized MutableYamlSequenceBuilder builds large sequences.
+     */
+    @Test
+    public void buildsPresizedSequence() {
+        final YamlSequenceBuilder builder = Yaml
+            .createMutableYamlSequenceBuilder(1000);
+        for(int idx = 0; idx < 1000; ++idx) {
+            builder.add(idx);
+        }
+        final YamlSequence sequence = builder.build();
+        MatcherAssert.assertThat(sequence.size(), Matchers.is(1000));
+        MatcherAssert.assertThat(sequence.integer(999), Matchers.is(999));
+    }
+
 }
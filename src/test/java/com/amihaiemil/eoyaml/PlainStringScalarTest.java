@@ -32,6 +32,7 @@ import static org.hamcrest.CoreMatchers.is;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 
+import org.apache.commons.io.IOUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -181,4 +182,20 @@ public final class PlainStringScalarTest {
             )
         );
     }
+
+    /**
+     * The Reader of a null scalar is empty.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsNullValue() throws Exception {
+        MatcherAssert.assertThat(
+            new PlainStringScalar("null").reader().read(),
+            Matchers.equalTo(-1)
+        );
+        MatcherAssert.assertThat(
+            IOUtils.toString(new PlainStringScalar("value").reader()),
+            Matchers.equalTo("value")
+        );
+    }
 }
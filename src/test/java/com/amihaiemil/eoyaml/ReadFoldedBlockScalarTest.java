@@ -27,8 +27,10 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.io.IOException;
 import java.util.*;
 
+import org.apache.commons.io.IOUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -198,6 +200,30 @@ public final class ReadFoldedBlockScalarTest {
         );
     }
 
+    /**
+     * ReadFoldedBlockScalar can stream its folded value, line by line,
+     * through a Reader.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsFoldedValue() throws IOException {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("Sammy Sosa completed another", 1));
+        lines.add(new RtYamlLine("fine season with great stats.", 2));
+        lines.add(new RtYamlLine("", 3));
+        lines.add(new RtYamlLine("  63 Home Runs", 4));
+        lines.add(new RtYamlLine("What a year!", 5));
+        final ReadFoldedBlockScalar scalar =
+            new ReadFoldedBlockScalar(new AllYamlLines(lines));
+        MatcherAssert.assertThat(
+            IOUtils.toString(scalar.reader()),
+            Matchers.equalTo(scalar.value())
+        );
+        MatcherAssert.assertThat(
+            scalar.value(), Matchers.sameInstance(scalar.value())
+        );
+    }
+
     /**
      * Method toString should print it as a valid YAML document.
      */
@@ -66,6 +66,33 @@ public final class ReadLiteralBlockScalarTest {
         );
     }
 
+    /**
+     * ReadLiteralBlockScalar can stream its value, line by line, through
+     * a Reader, and assembles the String value only once.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsValue() throws IOException {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("literal: |", 0));
+        lines.add(new RtYamlLine("  First Line.", 1));
+        lines.add(new RtYamlLine("    Second Line.", 2));
+        lines.add(new RtYamlLine("  Third Line.", 3));
+        final ReadLiteralBlockScalar scalar =
+            new ReadLiteralBlockScalar(lines.get(0), new AllYamlLines(lines));
+        MatcherAssert.assertThat(
+            IOUtils.toString(scalar.reader()),
+            Matchers.is(
+                "First Line." + System.lineSeparator()
+                + "  Second Line." + System.lineSeparator()
+                + "Third Line." + System.lineSeparator()
+            )
+        );
+        MatcherAssert.assertThat(
+            scalar.value(), Matchers.sameInstance(scalar.value())
+        );
+    }
+
     /**
      * ReadLiteralBlockScalar can return the value referring to it.
      */
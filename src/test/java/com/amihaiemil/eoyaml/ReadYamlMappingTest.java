@@ -32,11 +32,13 @@ import org.hamcrest.Matchers;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -49,6 +51,73 @@ import java.util.Set;
  */
 public final class ReadYamlMappingTest {
 
+    /**
+     * ReadYamlMapping reads its entries in one pass, with the same values
+     * as the ones returned by value(key).
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void entriesMatchValuesOfKeys() throws Exception {
+        final String[] files = {
+            "complexMapping.yml",
+            "quotedKeysMax.yml",
+            "dashMappings.yml",
+            "issue_494_bracketed_keys.yml",
+            "issue_517_values_with_colons.yml",
+            "mappingScalarstoSequencesComplexCase.yml",
+        };
+        for(final String file : files) {
+            final YamlMapping read = Yaml.createYamlInput(
+                new File("src/test/resources/" + file)
+            ).readYamlMapping();
+            final Set<Map.Entry<YamlNode, YamlNode>> entries = read.entries();
+            MatcherAssert.assertThat(
+                entries.size(), Matchers.equalTo(read.keys().size())
+            );
+            for(final Map.Entry<YamlNode, YamlNode> entry : entries) {
+                MatcherAssert.assertThat(
+                    file + ", key " + entry.getKey(),
+                    entry.getValue(),
+                    Matchers.equalTo(read.value(entry.getKey()))
+                );
+            }
+        }
+    }
+
+    /**
+     * ReadYamlMapping reads a complex key and its value as an entry.
+     */
+    @Test
+    public void returnsEntryWithComplexKey() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("first: one", 0));
+        lines.add(new RtYamlLine("?", 1));
+        lines.add(new RtYamlLine("  - a", 2));
+        lines.add(new RtYamlLine("  - b", 3));
+        lines.add(new RtYamlLine(": complex", 4));
+        lines.add(new RtYamlLine("last: [x, y]", 5));
+        final YamlMapping map = new ReadYamlMapping(new AllYamlLines(lines));
+        final Iterator<Map.Entry<YamlNode, YamlNode>> entries =
+            map.entries().iterator();
+        MatcherAssert.assertThat(
+            entries.next().getValue().asScalar().value(),
+            Matchers.equalTo("one")
+        );
+        final Map.Entry<YamlNode, YamlNode> complex = entries.next();
+        MatcherAssert.assertThat(
+            complex.getKey(), Matchers.instanceOf(YamlSequence.class)
+        );
+        MatcherAssert.assertThat(
+            complex.getValue().asScalar().value(),
+            Matchers.equalTo("complex")
+        );
+        MatcherAssert.assertThat(
+            entries.next().getValue().asSequence().string(1),
+            Matchers.equalTo("y")
+        );
+        MatcherAssert.assertThat(entries.hasNext(), Matchers.is(false));
+    }
+
     /**
      * ReadYamlMapping can return the YamlMapping mapped to a
      * String key.
@@ -1469,4 +1538,40 @@ public final class ReadYamlMappingTest {
         );
 
     }
+
+    /**
+     * A ReadYamlMapping is stable: its structural hash is cached, equal to
+     * the one of an equal built mapping and used to reject different
+     * mappings.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void cachesStructuralHash() throws Exception {
+        final YamlMapping read = Yaml.createYamlInput(
+            "name: eo-yaml\ntags:\n  - yaml\n  - java\nowner:\n  id: 1\n"
+        ).readYamlMapping();
+        final YamlMapping built = Yaml.createYamlMappingBuilder()
+            .add("name", "eo-yaml")
+            .add(
+                "tags",
+                Yaml.createYamlSequenceBuilder().add("yaml").add("java").build()
+            )
+            .add("owner", Yaml.createYamlMappingBuilder().add("id", 1).build())
+            .build();
+        MatcherAssert.assertThat(
+            ((BaseYamlNode) read).stable(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(read.hashCode(), Matchers.is(read.hashCode()));
+        MatcherAssert.assertThat(
+            read.hashCode(), Matchers.is(built.hashCode())
+        );
+        MatcherAssert.assertThat(read, Matchers.equalTo(built));
+        final YamlMapping other = Yaml.createYamlInput(
+            "name: eo-yaml\ntags:\n  - yaml\n  - java\nowner:\n  id: 2\n"
+        ).readYamlMapping();
+        MatcherAssert.assertThat(
+            ((BaseYamlNode) read).differs(other), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(read, Matchers.not(Matchers.equalTo(other)));
+    }
 }
@@ -46,6 +46,28 @@ import java.util.List;
  */
 public final class ReadYamlSequenceTest {
 
+    /**
+     * ReadYamlSequence reads its elements only once, for the list view.
+     */
+    @Test
+    public void cachesListView() {
+        final List<YamlLine> lines = new ArrayList<>();
+        lines.add(new RtYamlLine("- first", 0));
+        lines.add(new RtYamlLine("- second", 1));
+        lines.add(new RtYamlLine("- third", 2));
+        final YamlSequence sequence = new ReadYamlSequence(
+            new AllYamlLines(lines)
+        );
+        final List<YamlNode> list = sequence.asList();
+        MatcherAssert.assertThat(list.size(), Matchers.is(3));
+        MatcherAssert.assertThat(
+            sequence.yamlNode(1), Matchers.sameInstance(list.get(1))
+        );
+        MatcherAssert.assertThat(
+            sequence.string(2), Matchers.equalTo("third")
+        );
+    }
+
     /**
      * ReadYamlSequence can return the YamlMapping from a given index.
      * The YamlMapping starts after the dash line.
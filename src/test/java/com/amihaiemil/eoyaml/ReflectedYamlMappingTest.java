@@ -212,6 +212,109 @@ public final class ReflectedYamlMappingTest {
         );
     }
 
+    /**
+     * Beans of the same class share the cached keys and still reflect
+     * their own values.
+     */
+    @Test
+    public void sharesKeysOfSameClass() {
+        final YamlMapping first = new ReflectedYamlMapping(
+            new Student("Mihai", "Test", 20, 3.5, Arrays.asList("Math"))
+        );
+        final YamlMapping second = new ReflectedYamlMapping(
+            new Student("Ana", "Test", 21, 3.9, Arrays.asList("CS"))
+        );
+        MatcherAssert.assertThat(
+            first.keys().iterator().next(),
+            Matchers.sameInstance(second.keys().iterator().next())
+        );
+        MatcherAssert.assertThat(
+            first.string("firstName"), Matchers.equalTo("Mihai")
+        );
+        MatcherAssert.assertThat(
+            second.string("firstName"), Matchers.equalTo("Ana")
+        );
+        MatcherAssert.assertThat(
+            second.value("missing"), Matchers.nullValue()
+        );
+    }
+
+    /**
+     * An exception thrown by a getter is wrapped.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void wrapsGetterException() {
+        new ReflectedYamlMapping(new Failing()).value("value");
+    }
+
+    /**
+     * A reflected Map returns the values of String keys, of other keys
+     * and of its own reflected keys.
+     */
+    @Test
+    public void looksUpMapValues() {
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("name", "eo-yaml");
+        map.put(7, "seven");
+        map.put("empty", null);
+        final YamlMapping mapping = new ReflectedYamlMapping(map);
+        MatcherAssert.assertThat(
+            mapping.string("name"), Matchers.equalTo("eo-yaml")
+        );
+        MatcherAssert.assertThat(
+            mapping.string("7"), Matchers.equalTo("seven")
+        );
+        MatcherAssert.assertThat(
+            mapping.value("empty").asScalar().value(), Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            mapping.value("missing"), Matchers.nullValue()
+        );
+        for(final YamlNode key : mapping.keys()) {
+            MatcherAssert.assertThat(
+                mapping.value(key), Matchers.notNullValue()
+            );
+        }
+    }
+
+    /**
+     * A sorted Map with non-String keys can be looked up by String keys.
+     */
+    @Test
+    public void looksUpSortedMapValues() {
+        final Map<Integer, String> map = new TreeMap<>();
+        map.put(2, "two");
+        map.put(1, "one");
+        final YamlMapping mapping = new ReflectedYamlMapping(map);
+        MatcherAssert.assertThat(
+            mapping.string("2"), Matchers.equalTo("two")
+        );
+        MatcherAssert.assertThat(
+            mapping.keys().iterator().next().asScalar().value(),
+            Matchers.equalTo("1")
+        );
+    }
+
+    /**
+     * A large reflected Map is printed and looked up.
+     */
+    @Test
+    public void handlesLargeMap() {
+        final Map<String, Integer> map = new LinkedHashMap<>();
+        for(int idx = 0; idx < 20000; ++idx) {
+            map.put("key" + idx, idx);
+        }
+        final YamlMapping mapping = new ReflectedYamlMapping(map);
+        for(int idx = 0; idx < 20000; ++idx) {
+            MatcherAssert.assertThat(
+                mapping.integer("key" + idx), Matchers.equalTo(idx)
+            );
+        }
+        MatcherAssert.assertThat(
+            mapping.toString(), Matchers.startsWith("key0: 0\nkey1: 1\n")
+        );
+    }
+
     /**
      * Use the wrong object to construct a sequence - non-collection or array.
      */
@@ -220,6 +323,16 @@ public final class ReflectedYamlMappingTest {
         new ReflectedYamlMapping(new String[] {"wrong"});
     }
 
+    /**
+     * Bean whose getter fails.
+     * @checkstyle JavadocMethod (20 lines)
+     */
+    static final class Failing {
+        public String getValue() {
+            throw new UnsupportedOperationException("failing getter");
+        }
+    }
+
     /**
      * Simple student pojo for test.
      * @checkstyle JavadocVariable (100 lines)
@@ -61,6 +61,32 @@ public final class ReflectedYamlSequenceTest {
         );
     }
 
+    /**
+     * A reflected sequence follows the changes of its live collection.
+     */
+    @Test
+    public void followsLiveCollection() {
+        final List<String> live = new ArrayList<>();
+        live.add("a");
+        live.add("b");
+        final YamlSequence sequence = Yaml.createYamlDump(live)
+            .dumpSequence();
+        MatcherAssert.assertThat(sequence.size(), Matchers.is(2));
+        live.add("c");
+        MatcherAssert.assertThat(sequence.size(), Matchers.is(3));
+        MatcherAssert.assertThat(
+            sequence.yamlNode(2).asScalar().value(), Matchers.equalTo("c")
+        );
+        MatcherAssert.assertThat(
+            sequence.toString(),
+            Matchers.equalTo(
+                "- a" + System.lineSeparator()
+                + "- b" + System.lineSeparator()
+                + "- c"
+            )
+        );
+    }
+
     /**
      * A reflected YamlSequence can be created from a Collection.
      */
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.StringWriter;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RtParallelYamlPrinter}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class RtParallelYamlPrinterTest {
+
+    /**
+     * RtParallelYamlPrinter prints a large sequence the same way as
+     * RtYamlPrinter.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsLargeSequence() throws Exception {
+        YamlSequenceBuilder builder = Yaml.createYamlSequenceBuilder();
+        for(int idx = 0; idx < 1000; ++idx) {
+            builder = builder.add(
+                Yaml.createYamlMappingBuilder()
+                    .add("id", String.valueOf(idx))
+                    .add("name", "record: " + idx)
+                    .build("record " + idx)
+            );
+        }
+        final YamlSequence sequence = builder.build("records");
+        final StringWriter parallel = new StringWriter();
+        new RtParallelYamlPrinter(
+            parallel, "\n", ForkJoinPool.commonPool(), 2
+        ).print(sequence);
+        MatcherAssert.assertThat(
+            parallel.toString(),
+            Matchers.equalTo(RtParallelYamlPrinterTest.sequential(sequence))
+        );
+    }
+
+    /**
+     * RtParallelYamlPrinter prints a large stream, read from text,
+     * the same way as RtYamlPrinter, even with a window of one chunk.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsLargeStream() throws Exception {
+        final StringBuilder text = new StringBuilder();
+        for(int idx = 0; idx < 600; ++idx) {
+            text.append("---\nid: ").append(idx)
+                .append("\nitems:\n  - a\n  - b\n");
+        }
+        final YamlStream stream = Yaml.createYamlInput(text.toString())
+            .readYamlStream();
+        final StringWriter parallel = new StringWriter();
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            new RtParallelYamlPrinter(parallel, "\n", pool, 1).print(stream);
+        } finally {
+            pool.shutdown();
+        }
+        MatcherAssert.assertThat(
+            parallel.toString(),
+            Matchers.equalTo(RtParallelYamlPrinterTest.sequential(stream))
+        );
+    }
+
+    /**
+     * RtParallelYamlPrinter prints small nodes on the calling thread.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsSmallNodes() throws Exception {
+        final YamlMapping mapping = Yaml.createYamlMappingBuilder()
+            .add("key", "value")
+            .add("list", Yaml.createYamlSequenceBuilder().add("a").build())
+            .build();
+        final StringWriter parallel = new StringWriter();
+        Yaml.createParallelYamlPrinter(parallel).print(mapping);
+        MatcherAssert.assertThat(
+            parallel.toString(),
+            Matchers.equalTo(mapping.toString())
+        );
+    }
+
+    /**
+     * RtParallelYamlPrinter refuses an empty window.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesEmptyWindow() {
+        new RtParallelYamlPrinter(
+            new StringWriter(), ForkJoinPool.commonPool(), 0
+        );
+    }
+
+    /**
+     * Print the given node with RtYamlPrinter.
+     * @param node YamlNode.
+     * @return Printed node.
+     * @throws Exception If something goes wrong.
+     */
+    private static String sequential(final YamlNode node) throws Exception {
+        final StringWriter writer = new StringWriter();
+        new RtYamlPrinter(writer, "\n").print(node);
+        return writer.toString();
+    }
+}
@@ -2327,6 +2327,102 @@ public final class RtYamlInputTest {
         );
     }
 
+    /**
+     * RtYamlInput can read YAML ignoring the comments: the read
+     * nodes share the same empty comment.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsWithoutComments() throws IOException {
+        final YamlMapping read = new RtYamlInput(
+            new FileReader("src/test/resources/commentedMapping.yml")
+        ).withoutComments().readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("name"), Matchers.equalTo("eo-yaml")
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("developers").size(), Matchers.is(3)
+        );
+        MatcherAssert.assertThat(
+            read.comment(), Matchers.instanceOf(NoComment.class)
+        );
+        MatcherAssert.assertThat(
+            read.comment().yamlNode(), Matchers.sameInstance(read)
+        );
+        MatcherAssert.assertThat(
+            read.value("name").comment(),
+            Matchers.instanceOf(NoComment.class)
+        );
+        MatcherAssert.assertThat(
+            read.yamlSequence("developers").comment().value(),
+            Matchers.isEmptyString()
+        );
+        MatcherAssert.assertThat(
+            read.toString(),
+            Matchers.equalTo(
+                "architect: mihai" + System.lineSeparator()
+                + "developers:" + System.lineSeparator()
+                + "  - rultor" + System.lineSeparator()
+                + "  - salikjan" + System.lineSeparator()
+                + "  - sherif" + System.lineSeparator()
+                + "name: eo-yaml"
+            )
+        );
+    }
+
+    /**
+     * RtYamlInput keeps the lines starting with # inside block scalars
+     * when ignoring comments, since they are not comments there.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void keepsHashLinesOfBlockScalarsWithoutComments()
+        throws IOException {
+        final YamlMapping read = Yaml.createYamlInput(
+            "# comment" + System.lineSeparator()
+            + "script: |" + System.lineSeparator()
+            + "  # not a comment" + System.lineSeparator()
+            + "  echo hi" + System.lineSeparator()
+            + "# another comment" + System.lineSeparator()
+            + "other: value" + System.lineSeparator()
+        ).withoutComments().readYamlMapping();
+        MatcherAssert.assertThat(
+            read.string("script"),
+            Matchers.equalTo(
+                "# not a comment" + System.lineSeparator()
+                + "echo hi" + System.lineSeparator()
+            )
+        );
+        MatcherAssert.assertThat(
+            read.string("other"), Matchers.equalTo("value")
+        );
+        MatcherAssert.assertThat(read.keys().size(), Matchers.is(2));
+    }
+
+    /**
+     * A YamlStream read without comments has documents without comments.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsStreamWithoutComments() throws IOException {
+        final YamlStream read = Yaml.createYamlInput(
+            "# first document" + System.lineSeparator()
+            + "---" + System.lineSeparator()
+            + "a: b # inline" + System.lineSeparator()
+            + "---" + System.lineSeparator()
+            + "- c" + System.lineSeparator()
+        ).withoutComments().readYamlStream();
+        for(final YamlNode document : read.values()) {
+            MatcherAssert.assertThat(
+                document.comment(), Matchers.instanceOf(NoComment.class)
+            );
+            MatcherAssert.assertThat(
+                document.comment().yamlNode(), Matchers.sameInstance(document)
+            );
+        }
+        MatcherAssert.assertThat(read.values().size(), Matchers.is(2));
+    }
+
     /**
      * Read a test resource file's contents.
      * @param fileName File to read.
@@ -28,7 +28,10 @@
 package com.amihaiemil.eoyaml;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -186,4 +189,71 @@ public final class RtYamlMappingBuilderTest {
         }
     }
 
+    /**
+     * RtYamlMappingBuilder shares the previous pairs between the builders
+     * created from it. A key added twice keeps its first position and
+     * takes the last value.
+     */
+    @Test
+    public void branchesAndReplacesValues() {
+        final YamlMappingBuilder common = new RtYamlMappingBuilder()
+            .add("a", "1")
+            .add("b", "2");
+        final YamlMapping first = common.add("a", "3").build();
+        final YamlMapping second = common.add("c", "4").build();
+        MatcherAssert.assertThat(
+            first.toString(),
+            Matchers.equalTo("a: 3" + System.lineSeparator() + "b: 2")
+        );
+        MatcherAssert.assertThat(second.keys(), Matchers.iterableWithSize(3));
+        MatcherAssert.assertThat(second.string("a"), Matchers.equalTo("1"));
+        MatcherAssert.assertThat(
+            common.build().keys(), Matchers.iterableWithSize(2)
+        );
+    }
+
+    /**
+     * RtYamlMappingBuilder can build a large mapping, keeping the order.
+     */
+    @Test
+    public void buildsLargeMapping() {
+        YamlMappingBuilder builder = new RtYamlMappingBuilder();
+        for(int idx = 0; idx < 50_000; ++idx) {
+            builder = builder.add("key" + idx, String.valueOf(idx));
+        }
+        final YamlMapping mapping = builder.build();
+        MatcherAssert.assertThat(
+            mapping.keys(), Matchers.iterableWithSize(50_000)
+        );
+        MatcherAssert.assertThat(
+            mapping.string("key49999"), Matchers.equalTo("49999")
+        );
+    }
+
+    /**
+     * RtYamlMappingBuilder can add all the pairs of a Map.
+     */
+    @Test
+    public void addsAllPairs() {
+        final Map<String, Object> pairs = new LinkedHashMap<>();
+        pairs.put("name", "eo-yaml");
+        pairs.put("stars", 100);
+        pairs.put("tags", Arrays.asList("yaml", "java"));
+        final YamlMapping mapping = new RtYamlMappingBuilder()
+            .add("first", "value")
+            .addAll(pairs)
+            .build();
+        MatcherAssert.assertThat(
+            mapping.toString(),
+            Matchers.equalTo(
+                "first: value" + System.lineSeparator()
+                + "name: eo-yaml" + System.lineSeparator()
+                + "stars: 100" + System.lineSeparator()
+                + "tags:" + System.lineSeparator()
+                + "  - yaml" + System.lineSeparator()
+                + "  - java"
+            )
+        );
+    }
+
 }
@@ -31,6 +31,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.util.*;
 
@@ -543,6 +544,95 @@ public final class RtYamlMappingTest {
         );
     }
 
+    /**
+     * An immutable RtYamlMapping renders itself only once.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void cachesRenderedForm() throws Exception {
+        final YamlMapping child = Yaml.createYamlMappingBuilder()
+            .add("name", "eo-yaml")
+            .add("tags", Yaml.createYamlSequenceBuilder().add("yaml").build())
+            .add(
+                "description",
+                Yaml.createYamlScalarBuilder()
+                    .addLine("first line")
+                    .addLine("second line")
+                    .buildLiteralBlockScalar("literal")
+            )
+            .build();
+        final YamlMapping parent = Yaml.createYamlMappingBuilder()
+            .add("project", child)
+            .add("list", Yaml.createYamlSequenceBuilder().add(child).build())
+            .build();
+        final String printed = parent.toString();
+        MatcherAssert.assertThat(
+            parent.toString(), Matchers.sameInstance(printed)
+        );
+        MatcherAssert.assertThat(
+            printed,
+            Matchers.equalTo(
+                Yaml.createYamlInput(printed).readYamlMapping().toString()
+            )
+        );
+        MatcherAssert.assertThat(
+            printed,
+            Matchers.containsString(
+                child.toString().replace(
+                    System.lineSeparator(), System.lineSeparator() + "  "
+                )
+            )
+        );
+    }
+
+    /**
+     * An immutable mapping is printed with any line separator.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void rendersWithOtherLineSeparator() throws Exception {
+        final YamlMapping child = Yaml.createYamlMappingBuilder()
+            .add("a", "1")
+            .add("b", "2")
+            .build();
+        final YamlMapping parent = Yaml.createYamlMappingBuilder()
+            .add("child", child)
+            .build();
+        MatcherAssert.assertThat(
+            parent.toString(),
+            Matchers.equalTo(
+                "child:" + System.lineSeparator()
+                + "  a: 1" + System.lineSeparator()
+                + "  b: 2"
+            )
+        );
+        final StringWriter writer = new StringWriter();
+        Yaml.createYamlPrinter(writer, "\r\n").print(parent);
+        MatcherAssert.assertThat(
+            writer.toString(),
+            Matchers.equalTo("child:\r\n  a: 1\r\n  b: 2")
+        );
+    }
+
+    /**
+     * A mapping containing a mutable node is printed again each time.
+     */
+    @Test
+    public void doesNotCacheMutableChildren() {
+        final Map<String, Object> bean = new LinkedHashMap<>();
+        bean.put("counter", 1);
+        final YamlMapping mapping = Yaml.createYamlMappingBuilder()
+            .add("bean", Yaml.createYamlDump(bean).dumpMapping())
+            .build();
+        MatcherAssert.assertThat(
+            mapping.toString(), Matchers.containsString("counter: 1")
+        );
+        bean.put("counter", 2);
+        MatcherAssert.assertThat(
+            mapping.toString(), Matchers.containsString("counter: 2")
+        );
+    }
+
     /**
      * Read a test resource file's contents.
      * @param fileName File to read.
@@ -35,6 +35,7 @@ import org.junit.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 
 /**
  *
@@ -79,4 +80,53 @@ public final class RtYamlPrinterTest {
             );
         }
     }
+
+    /**
+     * RtYamlPrinter writes the YAML to the Writer in small pieces, as it
+     * walks the nodes, without printing it to a String first.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsStraightToWriter() throws Exception {
+        YamlSequenceBuilder items = Yaml.createYamlSequenceBuilder();
+        for(int idx = 0; idx < 100; ++idx) {
+            items = items.add(
+                Yaml.createYamlMappingBuilder()
+                    .add("id", String.valueOf(idx))
+                    .add("tags", Yaml.createYamlSequenceBuilder()
+                        .add("a").add("b").build()
+                    ).build()
+            );
+        }
+        final YamlMapping yaml = Yaml.createYamlMappingBuilder()
+            .add("items", items.build())
+            .build();
+        final StringBuilder printed = new StringBuilder();
+        final int[] largest = new int[1];
+        final Writer writer = new Writer() {
+            @Override
+            public void write(final char[] cbuf, final int off, final int len) {
+                largest[0] = Math.max(largest[0], len);
+                printed.append(cbuf, off, len);
+            }
+
+            @Override
+            public void flush() {
+                //nothing to flush
+            }
+
+            @Override
+            public void close() {
+                //nothing to close
+            }
+        };
+        new RtYamlPrinter(writer, "\n").print(yaml);
+        MatcherAssert.assertThat(
+            printed.toString(),
+            Matchers.startsWith(
+                "items:\n  -\n    id: 0\n    tags:\n      - a\n      - b\n"
+            )
+        );
+        MatcherAssert.assertThat(largest[0], Matchers.lessThan(10));
+    }
 }
@@ -27,6 +27,12 @@
  */
 package com.amihaiemil.eoyaml;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.commons.io.IOUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -197,4 +203,67 @@ public final class RtYamlScalarBuilderTest {
             )
         );
     }
+
+    /**
+     * RtYamlScalarBuilder can build a literal block scalar whose content
+     * is streamed from a source, and the content is printed indented.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void buildsStreamedLiteralBlockScalar() throws IOException {
+        final String content = "first line" + System.lineSeparator()
+            + "  second line" + System.lineSeparator();
+        final Scalar literal = new RtYamlScalarBuilder()
+            .buildLiteralBlockScalar(() -> new StringReader(content));
+        MatcherAssert.assertThat(literal.value(), Matchers.equalTo(content));
+        MatcherAssert.assertThat(
+            IOUtils.toString(literal.reader()), Matchers.equalTo(content)
+        );
+        MatcherAssert.assertThat(
+            Yaml.createYamlMappingBuilder()
+                .add("literal", literal)
+                .build()
+                .toString(),
+            Matchers.equalTo(
+                "literal: |" + System.lineSeparator()
+                + "  first line" + System.lineSeparator()
+                + "    second line"
+            )
+        );
+    }
+
+    /**
+     * RtYamlScalarBuilder can build a folded block scalar whose content
+     * is read from a file.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void buildsFoldedBlockScalarFromFile() throws IOException {
+        final Path file = Files.createTempFile("folded", ".txt");
+        try {
+            Files.write(
+                file,
+                ("some long" + System.lineSeparator() + "text")
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+            final Scalar folded = new RtYamlScalarBuilder()
+                .buildFoldedBlockScalar(file);
+            MatcherAssert.assertThat(
+                folded.value(), Matchers.equalTo("some long text")
+            );
+            MatcherAssert.assertThat(
+                Yaml.createYamlSequenceBuilder()
+                    .add(folded)
+                    .build()
+                    .toString(),
+                Matchers.equalTo(
+                    "- >" + System.lineSeparator()
+                    + "  some long" + System.lineSeparator()
+                    + "  text"
+                )
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
 }
@@ -31,6 +31,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -109,4 +110,55 @@ public final class RtYamlSequenceBuilderTest {
             Matchers.equalTo("some test sequence")
         );
     }
+
+    /**
+     * RtYamlSequenceBuilder shares the previous nodes between the builders
+     * created from it, without mixing them up.
+     */
+    @Test
+    public void branchesWithoutCopying() {
+        final YamlSequenceBuilder common = new RtYamlSequenceBuilder()
+            .add("a")
+            .add("b");
+        final YamlSequence first = common.add("c").build();
+        final YamlSequence second = common.add("d").add("e").build();
+        MatcherAssert.assertThat(first.size(), Matchers.is(3));
+        MatcherAssert.assertThat(first.string(2), Matchers.equalTo("c"));
+        MatcherAssert.assertThat(second.size(), Matchers.is(4));
+        MatcherAssert.assertThat(second.string(2), Matchers.equalTo("d"));
+        MatcherAssert.assertThat(common.build().size(), Matchers.is(2));
+    }
+
+    /**
+     * RtYamlSequenceBuilder can build a large sequence, keeping the order.
+     */
+    @Test
+    public void buildsLargeSequence() {
+        YamlSequenceBuilder builder = new RtYamlSequenceBuilder();
+        for(int idx = 0; idx < 50_000; ++idx) {
+            builder = builder.add(String.valueOf(idx));
+        }
+        final YamlSequence sequence = builder.build();
+        MatcherAssert.assertThat(sequence.size(), Matchers.is(50_000));
+        MatcherAssert.assertThat(
+            sequence.string(49_999), Matchers.equalTo("49999")
+        );
+    }
+
+    /**
+     * RtYamlSequenceBuilder can add all the values of an Iterable.
+     */
+    @Test
+    public void addsAllValues() {
+        final YamlSequence sequence = new RtYamlSequenceBuilder()
+            .add("first")
+            .addAll(Arrays.asList(1, "two", Arrays.asList(3, 4)))
+            .build();
+        MatcherAssert.assertThat(sequence.size(), Matchers.is(4));
+        MatcherAssert.assertThat(sequence.integer(1), Matchers.is(1));
+        MatcherAssert.assertThat(
+            sequence.yamlSequence(3).integer(1), Matchers.is(4)
+        );
+    }
+
 }
@@ -66,6 +66,56 @@ public final class RtYamlSequenceTest {
         );
     }
 
+    /**
+     * Sequence offers an indexed, RandomAccess list view, which is cached.
+     */
+    @Test
+    public void returnsRandomAccessList() {
+        final YamlSequence seq = Yaml.createYamlSequenceBuilder()
+            .add("a").add("b").add("c").build();
+        final List<YamlNode> list = seq.asList();
+        MatcherAssert.assertThat(
+            list, Matchers.instanceOf(RandomAccess.class)
+        );
+        MatcherAssert.assertThat(list, Matchers.sameInstance(seq.asList()));
+        MatcherAssert.assertThat(
+            ((Scalar) list.get(1)).value(), Matchers.equalTo("b")
+        );
+        MatcherAssert.assertThat(
+            ((Scalar) seq.yamlNode(2)).value(), Matchers.equalTo("c")
+        );
+        MatcherAssert.assertThat(seq.yamlNode(3), Matchers.nullValue());
+        MatcherAssert.assertThat(seq.yamlNode(-1), Matchers.nullValue());
+    }
+
+    /**
+     * Sequence streams its elements with a sized Spliterator.
+     */
+    @Test
+    public void streamsWithSizedSpliterator() {
+        YamlSequenceBuilder builder = Yaml.createYamlSequenceBuilder();
+        for(int idx = 0; idx < 1000; ++idx) {
+            builder = builder.add(String.valueOf(idx));
+        }
+        final YamlSequence seq = builder.build();
+        final Spliterator<YamlNode> split = seq.stream().spliterator();
+        MatcherAssert.assertThat(
+            split.hasCharacteristics(Spliterator.SIZED),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            split.hasCharacteristics(Spliterator.SUBSIZED),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(split.estimateSize(), Matchers.is(1000L));
+        MatcherAssert.assertThat(
+            seq.parallelStream()
+                .mapToInt(node -> Integer.parseInt(((Scalar) node).value()))
+                .sum(),
+            Matchers.is(499500)
+        );
+    }
+
     /**
      * Sequence can be iterated.
      */
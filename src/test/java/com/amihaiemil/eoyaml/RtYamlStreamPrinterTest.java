@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.StringWriter;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RtYamlStreamPrinter}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class RtYamlStreamPrinterTest {
+
+    /**
+     * RtYamlStreamPrinter appends documents, which can be read back
+     * as a YamlStream.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void appendsDocuments() throws Exception {
+        final StringWriter result = new StringWriter();
+        try (YamlStreamPrinter printer = new RtYamlStreamPrinter(
+            result, "\n"
+        )) {
+            for(int idx = 0; idx < 3; ++idx) {
+                printer.print(
+                    Yaml.createYamlMappingBuilder()
+                        .add("id", String.valueOf(idx))
+                        .add(
+                            "tags",
+                            Yaml.createYamlSequenceBuilder().add("a").build()
+                        ).build("record " + idx)
+                );
+            }
+        }
+        MatcherAssert.assertThat(
+            result.toString(),
+            Matchers.equalTo(
+                "---\n# record 0\nid: 0\ntags:\n  - a\n"
+                + "---\n# record 1\nid: 1\ntags:\n  - a\n"
+                + "---\n# record 2\nid: 2\ntags:\n  - a"
+            )
+        );
+        final YamlStream read = Yaml.createYamlInput(result.toString())
+            .readYamlStream();
+        MatcherAssert.assertThat(read.values().size(), Matchers.is(3));
+    }
+
+    /**
+     * RtYamlStreamPrinter leaves the destination open and writes to it
+     * only when flushed.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void writesOnFlushWithoutClosing() throws Exception {
+        final StringWriter result = new StringWriter();
+        final YamlStreamPrinter printer = new RtYamlStreamPrinter(
+            result, "\n"
+        );
+        printer.print(new PlainStringScalar("first"));
+        MatcherAssert.assertThat(result.toString(), Matchers.isEmptyString());
+        printer.flush();
+        MatcherAssert.assertThat(
+            result.toString(), Matchers.equalTo("---\nfirst")
+        );
+        printer.print(Yaml.createYamlSequenceBuilder().build());
+        printer.flush();
+        MatcherAssert.assertThat(
+            result.toString(), Matchers.equalTo("---\nfirst\n---\n[]")
+        );
+        printer.close();
+    }
+}
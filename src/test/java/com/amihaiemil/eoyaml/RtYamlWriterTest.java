@@ -0,0 +1,244 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.StringWriter;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RtYamlWriter}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class RtYamlWriterTest {
+
+    /**
+     * RtYamlWriter writes nested nodes like the printer does.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void writesLikeThePrinter() throws Exception {
+        final StringWriter result = new StringWriter();
+        try (YamlWriter yaml = new RtYamlWriter(result, "\n")) {
+            yaml.beginMapping().key("name").scalar("eo-yaml", "the name");
+            yaml.comment("Developers\nof the project");
+            yaml.key("developers").beginSequence().scalar("amihaiemil");
+            yaml.beginMapping().key("name").scalar("salikjan");
+            yaml.key("roles").beginSequence().scalar("dev").scalar("a: b");
+            yaml.end().end();
+            yaml.beginSequence().scalar("x").end();
+            yaml.end();
+            yaml.key("empty").beginMapping().end();
+            yaml.key("none").beginSequence().end();
+            yaml.key("nothing").scalar(null);
+            yaml.end();
+        }
+        final YamlMapping built = Yaml.createYamlMappingBuilder()
+            .add(
+                "name",
+                Yaml.createYamlScalarBuilder()
+                    .addLine("eo-yaml").buildPlainScalar("the name")
+            )
+            .add(
+                "developers",
+                Yaml.createYamlSequenceBuilder()
+                    .add("amihaiemil")
+                    .add(
+                        Yaml.createYamlMappingBuilder()
+                            .add("name", "salikjan")
+                            .add(
+                                "roles",
+                                Yaml.createYamlSequenceBuilder()
+                                    .add("dev").add("a: b").build()
+                            ).build()
+                    )
+                    .add(Yaml.createYamlSequenceBuilder().add("x").build())
+                    .build("Developers\nof the project")
+            )
+            .add("empty", Yaml.createYamlMappingBuilder().build())
+            .add("none", Yaml.createYamlSequenceBuilder().build())
+            .add("nothing", (String) null)
+            .build();
+        final StringWriter printed = new StringWriter();
+        Yaml.createYamlPrinter(printed, "\n").print(built);
+        MatcherAssert.assertThat(
+            result.toString(), Matchers.equalTo(printed.toString())
+        );
+    }
+
+    /**
+     * RtYamlWriter writes more documents and top level nodes.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void writesDocuments() throws Exception {
+        final StringWriter result = new StringWriter();
+        try (YamlWriter yaml = new RtYamlWriter(result, "\n")) {
+            yaml.beginDocument()
+                .beginMapping().key("a").scalar("1").end()
+                .beginDocument()
+                .beginSequence().scalar("b").end()
+                .beginDocument()
+                .scalar("c")
+                .beginDocument()
+                .beginMapping().end();
+        }
+        MatcherAssert.assertThat(
+            result.toString(),
+            Matchers.equalTo("---\na: 1\n---\n- b\n---\nc\n---\n{}")
+        );
+        final YamlStream read = Yaml.createYamlInput(result.toString())
+            .readYamlStream();
+        MatcherAssert.assertThat(read.values().size(), Matchers.is(4));
+    }
+
+    /**
+     * RtYamlWriter does not accept a value without a key.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void complainsAboutMissingKey() throws Exception {
+        new RtYamlWriter(new StringWriter()).beginMapping().scalar("value");
+    }
+
+    /**
+     * RtYamlWriter does not accept a key without a value.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void complainsAboutMissingValue() throws Exception {
+        new RtYamlWriter(new StringWriter()).beginMapping().key("key").end();
+    }
+
+    /**
+     * RtYamlWriter splits comments on any line break, whatever its own
+     * line separator is.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void splitsCommentsOnAnyLineBreak() throws Exception {
+        final StringWriter result = new StringWriter();
+        try (YamlWriter yaml = new RtYamlWriter(result, "\r\n")) {
+            yaml.comment("first\nsecond\r\nthird");
+            yaml.beginMapping().key("key").scalar("value").end();
+        }
+        MatcherAssert.assertThat(
+            result.toString(),
+            Matchers.equalTo(
+                "# first\r\n# second\r\n# third\r\nkey: value"
+            )
+        );
+    }
+
+    /**
+     * RtYamlWriter rejects inline comments with line breaks.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMultilineInlineComment() throws Exception {
+        new RtYamlWriter(new StringWriter()).beginSequence()
+            .scalar("value", "inline\nkey: injected");
+    }
+
+    /**
+     * RtYamlWriter does not write a second top-level node in the same
+     * document.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void complainsAboutSecondTopLevelNode() throws Exception {
+        final StringWriter result = new StringWriter();
+        final YamlWriter yaml = new RtYamlWriter(result, "\n");
+        yaml.beginMapping().key("a").scalar("1").end();
+        try {
+            yaml.beginMapping();
+            MatcherAssert.assertThat("Exception expected", false);
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(), Matchers.containsString("one top-level")
+            );
+        }
+        try {
+            yaml.scalar("top");
+            MatcherAssert.assertThat("Exception expected", false);
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(), Matchers.containsString("new document")
+            );
+        }
+        yaml.beginDocument().beginSequence().scalar("x").end();
+        MatcherAssert.assertThat(
+            result.toString(), Matchers.equalTo("a: 1\n---\n- x")
+        );
+    }
+
+    /**
+     * RtYamlWriter rejects null keys.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNullKey() throws Exception {
+        new RtYamlWriter(new StringWriter()).beginMapping().key(null);
+    }
+
+    /**
+     * RtYamlWriter rejects empty keys.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyKey() throws Exception {
+        new RtYamlWriter(new StringWriter()).beginMapping().key("");
+    }
+
+    /**
+     * RtYamlWriter does not close with open mappings or sequences, but it
+     * still closes the underlying Writer.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void complainsAboutUnendedNodes() throws Exception {
+        final boolean[] closed = new boolean[1];
+        final StringWriter result = new StringWriter() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        final YamlWriter yaml = new RtYamlWriter(result);
+        yaml.beginSequence().scalar("a");
+        try {
+            yaml.close();
+            MatcherAssert.assertThat("Exception expected", false);
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(closed[0], Matchers.is(true));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TypedValue}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class TypedValueTest {
+
+    /**
+     * TypedValue resolves decimal integers.
+     */
+    @Test
+    public void resolvesIntegers() {
+        MatcherAssert.assertThat(
+            new TypedValue("-123").integer(), Matchers.is(-123)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("+42").longNumber(), Matchers.is(42L)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("9223372036854775807").longNumber(),
+            Matchers.is(Long.MAX_VALUE)
+        );
+    }
+
+    /**
+     * An int is asked for a long value which does not fit.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void integerOutOfRange() {
+        new TypedValue("3000000000").integer();
+    }
+
+    /**
+     * TypedValue resolves floating point numbers.
+     */
+    @Test
+    public void resolvesFloats() {
+        MatcherAssert.assertThat(
+            new TypedValue("1.5e3").doubleNumber(), Matchers.is(1500.0)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("0.1").floatNumber(), Matchers.is(0.1f)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("-.5").doubleNumber(), Matchers.is(-0.5)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("Infinity").doubleNumber(),
+            Matchers.is(Double.POSITIVE_INFINITY)
+        );
+    }
+
+    /**
+     * A hexadecimal integer is parsed like Integer.parseInt does.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void hexadecimalIsNotJavaInteger() {
+        new TypedValue("0xFF").integer();
+    }
+
+    /**
+     * An octal integer is parsed like Long.parseLong does.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void octalIsNotJavaLong() {
+        new TypedValue("0o17").longNumber();
+    }
+
+    /**
+     * The YAML infinity is parsed like Double.parseDouble does.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void yamlInfinityIsNotJavaDouble() {
+        new TypedValue(".inf").doubleNumber();
+    }
+
+    /**
+     * The YAML not-a-number is parsed like Float.parseFloat does.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void yamlNanIsNotJavaFloat() {
+        new TypedValue(".NaN").floatNumber();
+    }
+
+    /**
+     * A float is not an integer.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void floatIsNotInteger() {
+        new TypedValue("1.5").longNumber();
+    }
+
+    /**
+     * A string is not a number.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void stringIsNotNumber() {
+        new TypedValue("abc").doubleNumber();
+    }
+
+    /**
+     * TypedValue resolves booleans like Boolean.parseBoolean does.
+     */
+    @Test
+    public void resolvesBooleans() {
+        MatcherAssert.assertThat(
+            new TypedValue("True").bool(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("FALSE").bool(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("tRuE").bool(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("yes").bool(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue(null).bool(), Matchers.is(false)
+        );
+    }
+
+    /**
+     * TypedValue resolves the core schema nulls.
+     */
+    @Test
+    public void resolvesNulls() {
+        MatcherAssert.assertThat(
+            new TypedValue(null).isNull(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("~").isNull(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("Null").isNull(), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("nUll").isNull(), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("nothing").isNull(), Matchers.is(false)
+        );
+    }
+
+    /**
+     * TypedValue resolves dates and dates with time.
+     */
+    @Test
+    public void resolvesTimestamps() {
+        MatcherAssert.assertThat(
+            new TypedValue("2026-10-19").date(),
+            Matchers.equalTo(LocalDate.of(2026, 10, 19))
+        );
+        MatcherAssert.assertThat(
+            new TypedValue("2026-10-19T10:15:30").dateTime(),
+            Matchers.equalTo(LocalDateTime.of(2026, 10, 19, 10, 15, 30))
+        );
+    }
+
+    /**
+     * Scalars cache their TypedValue.
+     */
+    @Test
+    public void isCachedByScalars() {
+        final Scalar scalar = new PlainStringScalar("12");
+        MatcherAssert.assertThat(
+            TypedValue.resolved(scalar),
+            Matchers.sameInstance(TypedValue.resolved(scalar))
+        );
+    }
+
+    /**
+     * YamlMapping and YamlSequence read numbers as the Java parse methods
+     * do.
+     */
+    @Test
+    public void readsJavaFormsFromYaml() {
+        final YamlMapping map = Yaml.createYamlMappingBuilder()
+            .add("int", "255")
+            .add("real", "-1.5")
+            .add("list", Yaml.createYamlSequenceBuilder()
+                .add("8").add("1e2").add("TRUE").build()
+            ).build();
+        MatcherAssert.assertThat(map.integer("int"), Matchers.is(255));
+        MatcherAssert.assertThat(map.doubleNumber("real"), Matchers.is(-1.5));
+        final YamlSequence list = map.yamlSequence("list");
+        MatcherAssert.assertThat(list.longNumber(0), Matchers.is(8L));
+        MatcherAssert.assertThat(list.doubleNumber(1), Matchers.is(100.0));
+        MatcherAssert.assertThat(list.bool(2), Matchers.is(true));
+    }
+
+    /**
+     * YamlMapping does not read hexadecimal integers, as before.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void mappingRejectsHexadecimal() {
+        Yaml.createYamlMappingBuilder().add("hex", "0xFF").build()
+            .integer("hex");
+    }
+
+    /**
+     * YamlSequence does not read the YAML infinity, as before.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void sequenceRejectsYamlInfinity() {
+        Yaml.createYamlSequenceBuilder().add("-.inf").build()
+            .doubleNumber(0);
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Utf8Writer}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class Utf8WriterTest {
+
+    /**
+     * Utf8Writer encodes like String.getBytes(UTF_8), also when the
+     * buffer has to be drained many times.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void encodesLikeTheJdk() throws Exception {
+        final String text = "key: value, ü é ß, € ✓, 😀 end";
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Utf8Writer writer = new Utf8Writer(
+            Channels.newChannel(out), ByteBuffer.allocate(5)
+        );
+        writer.write(text);
+        writer.write(text.toCharArray());
+        for(final char chr : text.toCharArray()) {
+            writer.write(chr);
+        }
+        writer.close();
+        MatcherAssert.assertThat(
+            out.toByteArray(),
+            Matchers.equalTo(
+                (text + text + text).getBytes(StandardCharsets.UTF_8)
+            )
+        );
+    }
+
+    /**
+     * A buffer without room for a 4-byte char is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTinyBuffer() {
+        Yaml.createYamlPrinter(
+            Channels.newChannel(new ByteArrayOutputStream()),
+            ByteBuffer.allocate(3)
+        );
+    }
+
+    /**
+     * A 4-byte buffer is enough for any char.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void encodesWithSmallestBuffer() throws Exception {
+        final String text = "a😀b€";
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Utf8Writer writer = new Utf8Writer(
+            Channels.newChannel(out), ByteBuffer.allocate(4)
+        )) {
+            writer.write(text);
+        }
+        MatcherAssert.assertThat(
+            out.toByteArray(),
+            Matchers.equalTo(text.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    /**
+     * Utf8Writer writes lone surrogates as '?'.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void replacesLoneSurrogates() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Utf8Writer writer = new Utf8Writer(out);
+        writer.write("a\uD83Db\uDE00c\uD83D");
+        writer.close();
+        MatcherAssert.assertThat(
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo("a?b?c?")
+        );
+    }
+
+    /**
+     * Utf8Writer writes everything to the stream at flush.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void flushesToStream() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Utf8Writer writer = new Utf8Writer(out);
+        writer.write("abc");
+        MatcherAssert.assertThat(out.size(), Matchers.is(0));
+        writer.flush();
+        MatcherAssert.assertThat(out.toString("UTF-8"), Matchers.is("abc"));
+    }
+
+    /**
+     * A YamlPrinter can print UTF-8 bytes to an OutputStream.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void printsYamlToOutputStream() throws Exception {
+        final YamlMapping yaml = Yaml.createYamlMappingBuilder()
+            .add("name", "Zoë")
+            .add("tags", Yaml.createYamlSequenceBuilder().add("ü").build())
+            .build();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Yaml.createYamlPrinter(out, "\n").print(yaml);
+        MatcherAssert.assertThat(
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo("name: Zoë\ntags:\n  - ü")
+        );
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.StringReader;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link WeakYamlInterner}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class WeakYamlInternerTest {
+
+    /**
+     * Identical mappings built with an interning builder are the same
+     * instance.
+     */
+    @Test
+    public void sharesIdenticalBuiltMappings() {
+        final YamlInterner interner = Yaml.createYamlInterner();
+        final YamlMapping first = this.server(interner, "localhost");
+        final YamlMapping second = this.server(interner, "localhost");
+        final YamlMapping other = this.server(interner, "remote");
+        MatcherAssert.assertThat(first, Matchers.sameInstance(second));
+        MatcherAssert.assertThat(first, Matchers.not(Matchers.equalTo(other)));
+        MatcherAssert.assertThat(
+            first.value("port"), Matchers.sameInstance(other.value("port"))
+        );
+    }
+
+    /**
+     * Mappings which differ only in comments are not shared.
+     */
+    @Test
+    public void keepsDifferentComments() {
+        final YamlInterner interner = Yaml.createYamlInterner();
+        final YamlMapping first = Yaml.createYamlMappingBuilder(interner)
+            .add("key", "value")
+            .build("first");
+        final YamlMapping second = Yaml.createYamlMappingBuilder(interner)
+            .add("key", "value")
+            .build("second");
+        MatcherAssert.assertThat(first, Matchers.equalTo(second));
+        MatcherAssert.assertThat(
+            first, Matchers.not(Matchers.sameInstance(second))
+        );
+        MatcherAssert.assertThat(
+            second.comment().value(), Matchers.equalTo("second")
+        );
+    }
+
+    /**
+     * Repeated subtrees of a read document are materialised once.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void internsReadDocument() throws Exception {
+        final YamlMapping read = Yaml.createYamlInput(
+            "dev:\n  db:\n    host: localhost\n    port: 5432\n"
+            + "  tags:\n    - a\n    - b\n"
+            + "test:\n  db:\n    host: localhost\n    port: 5432\n"
+            + "  tags:\n    - a\n    - b\n"
+        ).readYamlMapping();
+        final YamlInterner interner = Yaml.createYamlInterner();
+        final YamlMapping interned = interner.intern(read);
+        MatcherAssert.assertThat(interned, Matchers.equalTo(read));
+        MatcherAssert.assertThat(
+            interned.value("dev"),
+            Matchers.sameInstance(interned.value("test"))
+        );
+        MatcherAssert.assertThat(
+            interner.intern(read), Matchers.sameInstance(interned)
+        );
+        MatcherAssert.assertThat(
+            interner.size(), Matchers.equalTo(14)
+        );
+    }
+
+    /**
+     * Interning keeps the printed YAML.
+     */
+    @Test
+    public void keepsPrintedYaml() {
+        final YamlMapping built = Yaml.createYamlMappingBuilder()
+            .add(
+                "list",
+                Yaml.createYamlSequenceBuilder()
+                    .add("one")
+                    .add(
+                        Yaml.createYamlScalarBuilder()
+                            .addLine("two")
+                            .buildPlainScalar("inline")
+                    )
+                    .build("a list")
+            )
+            .add("none", (YamlNode) null)
+            .build("root");
+        final YamlMapping interned = Yaml.createYamlInterner().intern(built);
+        MatcherAssert.assertThat(
+            interned.toString(), Matchers.equalTo(built.toString())
+        );
+    }
+
+    /**
+     * Interning keeps streamed block scalars as block scalars.
+     */
+    @Test
+    public void keepsStreamedBlockScalars() {
+        final YamlMapping built = Yaml.createYamlMappingBuilder()
+            .add(
+                "lit",
+                Yaml.createYamlScalarBuilder()
+                    .buildLiteralBlockScalar(() -> new StringReader("l1\nl2"))
+            )
+            .add(
+                "fold",
+                Yaml.createYamlScalarBuilder()
+                    .buildFoldedBlockScalar(() -> new StringReader("f1\nf2"))
+            )
+            .build();
+        final YamlMapping interned = Yaml.createYamlInterner().intern(built);
+        MatcherAssert.assertThat(
+            interned.toString(),
+            Matchers.equalTo("lit: |\n  l1\n  l2\nfold: >\n  f1\n  f2")
+        );
+    }
+
+    /**
+     * Interning keeps the style of read flow collections and block
+     * scalars.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void keepsReadStyles() throws Exception {
+        final YamlMapping read = Yaml.createYamlInput(
+            "a: [1, 2]\nb: {x: y}\nc: |\n  l1\n  l2\nd: >\n  f1\n  f2\n"
+        ).readYamlMapping();
+        final YamlMapping interned = Yaml.createYamlInterner().intern(read);
+        MatcherAssert.assertThat(
+            interned.toString(), Matchers.equalTo(read.toString())
+        );
+        MatcherAssert.assertThat(
+            interned.toString(),
+            Matchers.startsWith("a: [1, 2]\nb: {x: y}\n")
+        );
+    }
+
+    /**
+     * Concurrent interning of identical trees yields one instance.
+     */
+    @Test
+    public void internsConcurrently() {
+        final YamlInterner interner = Yaml.createYamlInterner();
+        final YamlMapping expected = this.server(interner, "host");
+        MatcherAssert.assertThat(
+            IntStream.range(0, 1000).parallel().allMatch(
+                idx -> this.server(interner, "host") == expected
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Build a server mapping with the given interner.
+     * @param interner YamlInterner.
+     * @param host Host.
+     * @return YamlMapping.
+     */
+    private YamlMapping server(final YamlInterner interner, final String host) {
+        return Yaml.createYamlMappingBuilder(interner)
+            .add("host", host)
+            .add("port", "8080")
+            .add(
+                "paths",
+                Yaml.createYamlSequenceBuilder(interner)
+                    .add("/api")
+                    .add("/health")
+                    .build()
+            )
+            .build();
+    }
+}
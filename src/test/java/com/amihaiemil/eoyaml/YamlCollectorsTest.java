@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link YamlCollectors}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class YamlCollectorsTest {
+
+    /**
+     * YamlCollectors can collect a parallel stream into a YamlSequence,
+     * keeping the encounter order.
+     */
+    @Test
+    public void collectsParallelSequence() {
+        final YamlSequence sequence = IntStream.range(0, 10_000)
+            .parallel()
+            .boxed()
+            .collect(YamlCollectors.toYamlSequence("numbers"));
+        MatcherAssert.assertThat(sequence.size(), Matchers.is(10_000));
+        MatcherAssert.assertThat(
+            Arrays.stream(sequence.toIntArray()).boxed()
+                .collect(Collectors.toList()),
+            Matchers.equalTo(
+                IntStream.range(0, 10_000).boxed()
+                    .collect(Collectors.toList())
+            )
+        );
+        MatcherAssert.assertThat(
+            sequence.comment().value(), Matchers.equalTo("numbers")
+        );
+    }
+
+    /**
+     * YamlCollectors can collect a parallel stream into a YamlMapping,
+     * keeping the encounter order.
+     */
+    @Test
+    public void collectsParallelMapping() {
+        final YamlMapping mapping = IntStream.range(0, 5_000)
+            .parallel()
+            .boxed()
+            .collect(
+                YamlCollectors.toYamlMapping(idx -> "key" + idx, idx -> idx)
+            );
+        int expected = 0;
+        for(final YamlNode key : mapping.keys()) {
+            MatcherAssert.assertThat(
+                key.asScalar().value(), Matchers.equalTo("key" + expected)
+            );
+            expected = expected + 1;
+        }
+        MatcherAssert.assertThat(expected, Matchers.is(5_000));
+        MatcherAssert.assertThat(
+            mapping.integer("key4999"), Matchers.is(4999)
+        );
+    }
+
+    /**
+     * On duplicate keys, the last value in encounter order wins.
+     */
+    @Test
+    public void keepsLastValueOfDuplicateKey() {
+        final YamlMapping mapping = Stream.of("a:1", "b:2", "a:3")
+            .collect(
+                YamlCollectors.toYamlMapping(
+                    pair -> pair.split(":")[0], pair -> pair.split(":")[1]
+                )
+            );
+        MatcherAssert.assertThat(
+            mapping.toString(),
+            Matchers.equalTo("a: 3" + System.lineSeparator() + "b: 2")
+        );
+    }
+
+    /**
+     * YamlCollectors can collect documents into a YamlStream.
+     */
+    @Test
+    public void collectsStream() {
+        final YamlStream stream = Stream.of("first", "second")
+            .map(
+                name -> Yaml.createYamlMappingBuilder().add("name", name)
+                    .build()
+            )
+            .collect(YamlCollectors.toYamlStream());
+        MatcherAssert.assertThat(stream.values().size(), Matchers.is(2));
+        MatcherAssert.assertThat(
+            stream.toString(),
+            Matchers.equalTo(
+                "---" + System.lineSeparator()
+                + "  name: first" + System.lineSeparator()
+                + "---" + System.lineSeparator()
+                + "  name: second"
+            )
+        );
+    }
+}
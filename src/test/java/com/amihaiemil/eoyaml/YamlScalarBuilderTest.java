@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml;
+
+import java.io.StringReader;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for the default methods of {@link YamlScalarBuilder}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class YamlScalarBuilderTest {
+
+    /**
+     * A builder which implements only the abstract methods can build
+     * a literal block scalar from a Reader.
+     */
+    @Test
+    public void buildsLiteralFromReader() {
+        final Scalar scalar = new Minimal(Yaml.createYamlScalarBuilder())
+            .buildLiteralBlockScalar(
+                () -> new StringReader("first\nsecond\n"), "comment"
+            );
+        MatcherAssert.assertThat(
+            scalar.value(),
+            Matchers.equalTo("first" + System.lineSeparator() + "second")
+        );
+        MatcherAssert.assertThat(
+            scalar.comment().value(), Matchers.equalTo("comment")
+        );
+    }
+
+    /**
+     * A builder which implements only the abstract methods can build
+     * a folded block scalar from a Reader.
+     */
+    @Test
+    public void buildsFoldedFromReader() {
+        final Scalar scalar = new Minimal(Yaml.createYamlScalarBuilder())
+            .buildFoldedBlockScalar(
+                () -> new StringReader("first\nsecond")
+            );
+        MatcherAssert.assertThat(
+            scalar.value(), Matchers.equalTo("first second")
+        );
+    }
+
+    /**
+     * YamlScalarBuilder implementing only the abstract methods.
+     * @checkstyle JavadocMethod (50 lines)
+     */
+    private static final class Minimal implements YamlScalarBuilder {
+
+        /**
+         * Decorated builder.
+         */
+        private final YamlScalarBuilder origin;
+
+        /**
+         * Ctor.
+         * @param origin Decorated builder.
+         */
+        Minimal(final YamlScalarBuilder origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public YamlScalarBuilder addLine(final String value) {
+            return new Minimal(this.origin.addLine(value));
+        }
+
+        @Override
+        public Scalar buildPlainScalar(
+            final String above, final String inline
+        ) {
+            return this.origin.buildPlainScalar(above, inline);
+        }
+
+        @Override
+        public Scalar buildFoldedBlockScalar(final String comment) {
+            return this.origin.buildFoldedBlockScalar(comment);
+        }
+
+        @Override
+        public Scalar buildLiteralBlockScalar(final String comment) {
+            return this.origin.buildLiteralBlockScalar(comment);
+        }
+    }
+}
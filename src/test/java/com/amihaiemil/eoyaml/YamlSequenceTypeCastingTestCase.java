@@ -109,6 +109,67 @@ public final class YamlSequenceTypeCastingTestCase {
         );
     }
     
+    @Test
+    public void returnsPrimitiveArrays() {
+        final YamlSequence numbers = this.numbers();
+        MatcherAssert.assertThat(
+            numbers.toIntArray(),
+            Matchers.equalTo(new int[] {1, -2, 255, 3})
+        );
+        MatcherAssert.assertThat(
+            numbers.toLongArray(),
+            Matchers.equalTo(new long[] {1L, -2L, 255L, 3L})
+        );
+        MatcherAssert.assertThat(
+            numbers.toDoubleArray(),
+            Matchers.equalTo(new double[] {1.0, -2.0, 255.0, 3.0})
+        );
+    }
+
+    @Test
+    public void returnsPrimitiveStreams() {
+        final YamlSequence numbers = this.numbers();
+        MatcherAssert.assertThat(numbers.intStream().sum(), Matchers.is(257));
+        MatcherAssert.assertThat(
+            numbers.longStream().max().getAsLong(), Matchers.is(255L)
+        );
+        MatcherAssert.assertThat(
+            Yaml.createYamlSequenceBuilder().add("1.5").add("2.5").build()
+                .doubleStream().sum(),
+            Matchers.is(4.0)
+        );
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void primitiveArrayFailsOnNonNumber() {
+        Yaml.createYamlSequenceBuilder().add("1").add("two").build()
+            .toIntArray();
+    }
+
+    @Test
+    public void readsPrimitiveArrayFromText() throws Exception {
+        final YamlSequence read = Yaml.createYamlInput(
+            "- 10\n- 20 # twenty\n- 30\n"
+        ).readYamlSequence();
+        MatcherAssert.assertThat(
+            read.toLongArray(),
+            Matchers.equalTo(new long[] {10L, 20L, 30L})
+        );
+    }
+
+    /**
+     * Get a YamlSequence of numbers.
+     * @return YamlSequence.
+     */
+    private YamlSequence numbers() {
+        return Yaml.createYamlSequenceBuilder()
+            .add("1")
+            .add("-2")
+            .add("255")
+            .add("3")
+            .build();
+    }
+
     /**
      * Get a YamlSequence for test.
      * @return YamlSequence.
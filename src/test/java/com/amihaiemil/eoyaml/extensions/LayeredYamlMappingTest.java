@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlNode;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LayeredYamlMapping}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class LayeredYamlMappingTest {
+
+    /**
+     * LayeredYamlMapping gives the same result as merging the layers
+     * pairwise, overriding conflicts.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void layersLikePairwiseMerge() throws Exception {
+        final YamlMapping defaults = Yaml.createYamlInput(
+            "# defaults\nname: app\nport: 80\ndb:\n  host: localhost\n"
+            + "  pool:\n    size: 5\nfeatures:\n  - a\n  - b\nmode: fast\n"
+        ).readYamlMapping();
+        final YamlMapping environment = Yaml.createYamlInput(
+            "port: 8080\ndb:\n  host: db.prod\nfeatures:\n  - b\n  - c\n"
+        ).readYamlMapping();
+        final YamlMapping tenant = Yaml.createYamlInput(
+            "db:\n  pool:\n    size: 20\nmode:\n  speed: slow\n"
+            + "features:\n  - d\n"
+        ).readYamlMapping();
+        final YamlMapping layered = new LayeredYamlMapping(
+            defaults, environment, tenant
+        );
+        final YamlMapping merged = new MergedYamlMapping(
+            new MergedYamlMapping(defaults, environment, true),
+            tenant,
+            true
+        );
+        MatcherAssert.assertThat(
+            layered.toString(), Matchers.equalTo(merged.toString())
+        );
+        MatcherAssert.assertThat(
+            layered.yamlMapping("db").yamlMapping("pool").integer("size"),
+            Matchers.is(20)
+        );
+        MatcherAssert.assertThat(
+            layered.yamlSequence("features").size(), Matchers.is(4)
+        );
+        MatcherAssert.assertThat(layered, Matchers.equalTo(merged));
+    }
+
+    /**
+     * LayeredYamlMapping resolves a key once and then caches it.
+     */
+    @Test
+    public void cachesResolvedValues() {
+        final YamlMapping first = Yaml.createYamlMappingBuilder()
+            .add("db", Yaml.createYamlMappingBuilder().add("a", "1").build())
+            .build();
+        final YamlMapping second = Yaml.createYamlMappingBuilder()
+            .add("db", Yaml.createYamlMappingBuilder().add("b", "2").build())
+            .build();
+        final YamlMapping layered = new LayeredYamlMapping(first, second);
+        final YamlNode database = layered.value("db");
+        MatcherAssert.assertThat(
+            database, Matchers.sameInstance(layered.value("db"))
+        );
+        MatcherAssert.assertThat(
+            database.asMapping().keys(), Matchers.iterableWithSize(2)
+        );
+        MatcherAssert.assertThat(
+            layered.value("missing"), Matchers.nullValue()
+        );
+    }
+
+    /**
+     * LayeredYamlMapping ignores null layers, but needs at least one.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsOnNoLayers() {
+        final YamlMapping none = null;
+        new LayeredYamlMapping(none, none);
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ * Copyright (c) 2016-2024, Mihai Emil Andronache
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ *  list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *  this list of conditions and the following disclaimer in the documentation
+ *  and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package com.amihaiemil.eoyaml.extensions;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlMappingBuilder;
+import com.amihaiemil.eoyaml.YamlNode;
+import com.amihaiemil.eoyaml.YamlSequence;
+import com.amihaiemil.eoyaml.YamlSequenceBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link YamlDiff}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 8.0.7
+ */
+public final class YamlDiffTest {
+
+    /**
+     * YamlDiff finds the added, removed and changed keys and patches
+     * the original mapping.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void diffsMappings() throws Exception {
+        final YamlMapping before = Yaml.createYamlInput(
+            "name: app\nport: 80\ndb:\n  host: localhost\n  user: root\n"
+        ).readYamlMapping();
+        final YamlMapping after = Yaml.createYamlInput(
+            "name: app\nport: 8080\ndb:\n  host: localhost\n  pool: 5\n"
+            + "debug: true\n"
+        ).readYamlMapping();
+        final YamlDiff diff = new YamlDiff(before, after);
+        MatcherAssert.assertThat(
+            YamlDiffTest.printed(diff),
+            Matchers.contains(
+                "CHANGED /port", "ADDED /db/pool",
+                "REMOVED /db/user", "ADDED /debug"
+            )
+        );
+        MatcherAssert.assertThat(diff.apply(before), Matchers.equalTo(after));
+    }
+
+    /**
+     * YamlDiff keeps the order of the changed mapping when patching: the
+     * added keys come after their preceding keys and the moved keys are
+     * removed and added again.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void keepsKeyOrder() throws Exception {
+        final YamlMapping before = Yaml.createYamlInput(
+            "a: 1\nb: 2\nc: 3\nd: 4\n"
+        ).readYamlMapping();
+        final YamlMapping after = Yaml.createYamlInput(
+            "x: 0\na: 1\ny: 5\nc: 3\nb: 2\nd: 4\nz: 6\n"
+        ).readYamlMapping();
+        final YamlDiff diff = new YamlDiff(before, after);
+        MatcherAssert.assertThat(
+            YamlDiffTest.printed(diff),
+            Matchers.contains(
+                "ADDED /x", "ADDED /y", "ADDED /c", "ADDED /z", "REMOVED /c"
+            )
+        );
+        MatcherAssert.assertThat(
+            diff.changes().get(1).previous().asScalar().value(),
+            Matchers.equalTo("a")
+        );
+        MatcherAssert.assertThat(
+            diff.changes().get(0).previous(), Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(diff.apply(before), Matchers.equalTo(after));
+        MatcherAssert.assertThat(
+            new YamlDiff(after, before).apply(after),
+            Matchers.equalTo(before)
+        );
+    }
+
+    /**
+     * YamlDiff patches random mappings into the changed ones.
+     */
+    @Test
+    public void patchesRandomMappings() {
+        final Random random = new Random(42);
+        for(int idx = 0; idx < 2_000; ++idx) {
+            final YamlMapping before = YamlDiffTest.random(random);
+            final YamlMapping after = YamlDiffTest.random(random);
+            MatcherAssert.assertThat(
+                new YamlDiff(before, after).apply(before),
+                Matchers.equalTo(after)
+            );
+        }
+    }
+
+    /**
+     * YamlDiff finds the elements inserted into and removed from a
+     * sequence and patches the original sequence.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void diffsSequences() throws Exception {
+        final YamlSequence before = Yaml.createYamlInput(
+            "- a\n- b\n- c\n- d\n- name: e\n  size: 1\n- f\n"
+        ).readYamlSequence();
+        final YamlSequence after = Yaml.createYamlInput(
+            "- a\n- x\n- c\n- d\n- y\n- name: e\n  size: 2\n- f\n- z\n"
+        ).readYamlSequence();
+        final YamlDiff diff = new YamlDiff(before, after);
+        MatcherAssert.assertThat(
+            YamlDiffTest.printed(diff),
+            Matchers.contains(
+                "CHANGED /1", "ADDED /4", "CHANGED /4/size", "ADDED /6"
+            )
+        );
+        MatcherAssert.assertThat(diff.apply(before), Matchers.equalTo(after));
+    }
+
+    /**
+     * YamlDiff finds no changes between equal nodes and the patched node
+     * shares the unchanged subtrees.
+     */
+    @Test
+    public void sharesUnchangedSubtrees() {
+        final YamlMapping untouched = Yaml.createYamlMappingBuilder()
+            .add("key", "value")
+            .build();
+        final YamlMapping before = Yaml.createYamlMappingBuilder()
+            .add("untouched", untouched)
+            .add("changed", "1")
+            .build();
+        final YamlMapping after = Yaml.createYamlMappingBuilder()
+            .add(
+                "untouched",
+                Yaml.createYamlMappingBuilder().add("key", "value").build()
+            )
+            .add("changed", "2")
+            .build();
+        MatcherAssert.assertThat(
+            new YamlDiff(before, before).isEmpty(), Matchers.is(true)
+        );
+        final YamlNode patched = new YamlDiff(before, after).apply(before);
+        MatcherAssert.assertThat(patched, Matchers.equalTo(after));
+        MatcherAssert.assertThat(
+            patched.asMapping().value("untouched"),
+            Matchers.sameInstance(untouched)
+        );
+    }
+
+    /**
+     * YamlDiff can compare large trees.
+     */
+    @Test
+    public void diffsLargeTrees() {
+        final YamlSequence before = YamlDiffTest.records(20_000, -1);
+        final YamlSequence after = YamlDiffTest.records(20_000, 12_345);
+        final YamlDiff diff = new YamlDiff(before, after);
+        MatcherAssert.assertThat(
+            YamlDiffTest.printed(diff), Matchers.contains("CHANGED /12345/id")
+        );
+        MatcherAssert.assertThat(diff.apply(before), Matchers.equalTo(after));
+    }
+
+    /**
+     * The changes, printed.
+     * @param diff YamlDiff.
+     * @return List of String.
+     */
+    private static List<String> printed(final YamlDiff diff) {
+        final List<String> printed = new ArrayList<>();
+        for(final YamlChange change : diff) {
+            printed.add(change.toString());
+        }
+        return printed;
+    }
+
+    /**
+     * A mapping with up to 6 random keys, in random order, and random
+     * values.
+     * @param random Random.
+     * @return YamlMapping.
+     */
+    private static YamlMapping random(final Random random) {
+        final List<String> keys = new ArrayList<>();
+        for(int idx = 0; idx < 6; ++idx) {
+            if(random.nextBoolean()) {
+                keys.add("k" + idx);
+            }
+        }
+        Collections.shuffle(keys, random);
+        YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
+        for(final String key : keys) {
+            builder = builder.add(key, String.valueOf(random.nextInt(3)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * A sequence of records, each with 5 keys.
+     * @param size Number of records.
+     * @param changed Index of the record with a changed id.
+     * @return YamlSequence.
+     */
+    private static YamlSequence records(final int size, final int changed) {
+        final YamlSequenceBuilder builder = Yaml
+            .createMutableYamlSequenceBuilder(size);
+        for(int idx = 0; idx < size; ++idx) {
+            final int id;
+            if(idx == changed) {
+                id = -idx;
+            } else {
+                id = idx;
+            }
+            builder.add(
+                Yaml.createYamlMappingBuilder()
+                    .add("id", id)
+                    .add("name", "record " + idx)
+                    .add("active", idx % 2 == 0)
+                    .add("score", idx * 1.5)
+                    .add("tag", "t" + idx % 10)
+                    .build()
+            );
+        }
+        return builder.build();
+    }
+}